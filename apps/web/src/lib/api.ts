@@ -38,6 +38,25 @@ api.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
+// Refresh tokens are single use, so concurrent 401s share one refresh instead of each presenting the same token
+let refreshInFlight: Promise<string> | null = null;
+
+const refreshAccessToken = (refreshToken: string): Promise<string> => {
+  if (!refreshInFlight) {
+    refreshInFlight = axios
+      .post(`${getApiBaseUrl()}/api/v1/auth/refresh`, { refreshToken })
+      .then((response) => {
+        const { accessToken, refreshToken: nextRefreshToken } = response.data.data;
+        useAuthStore.getState().setTokens(accessToken, nextRefreshToken);
+        return accessToken;
+      })
+      .finally(() => {
+        refreshInFlight = null;
+      });
+  }
+  return refreshInFlight;
+};
+
 // Response interceptor to handle token refresh
 api.interceptors.response.use(
   (response) => response,
@@ -50,12 +69,7 @@ api.interceptors.response.use(
       const refreshToken = useAuthStore.getState().refreshToken;
       if (refreshToken) {
         try {
-          const response = await axios.post(`${getApiBaseUrl()}/api/v1/auth/refresh`, {
-            refreshToken,
-          });
-          
-          const { accessToken } = response.data.data;
-          useAuthStore.getState().setAccessToken(accessToken);
+          const accessToken = await refreshAccessToken(refreshToken);
           
           originalRequest.headers.Authorization = `Bearer ${accessToken}`;
           return api(originalRequest);
@@ -17,6 +17,7 @@ interface AuthState {
   
   setAuth: (user: User, accessToken: string, refreshToken: string) => void;
   setAccessToken: (token: string) => void;
+  setTokens: (accessToken: string, refreshToken: string) => void;
   updateUser: (data: Partial<User>) => void;
   logout: () => void;
 }
@@ -39,6 +40,9 @@ export const useAuthStore = create<AuthState>()(
         
       setAccessToken: (accessToken) =>
         set({ accessToken }),
+
+      setTokens: (accessToken, refreshToken) =>
+        set({ accessToken, refreshToken }),
         
       updateUser: (data) =>
         set((state) => ({
@@ -34,15 +34,39 @@ db.createCollection('jobs');
 db.createCollection('applications');
 db.createCollection('consent_tokens');
 db.createCollection('documents');
+db.createCollection('token_revocations');
+db.createCollection('signing_keys');
+db.createCollection('refresh_sessions');
 
 // Create indexes
 db.users.createIndex({ email: 1 }, { unique: true });
 
+db.token_revocations.createIndex({ updatedAt: 1 });
+db.token_revocations.createIndex({ expiresAt: 1 }, { expireAfterSeconds: 0 });
+db.signing_keys.createIndex({ expiresAt: 1 }, { expireAfterSeconds: 0 });
+db.refresh_sessions.createIndex({ userId: 1 });
+db.refresh_sessions.createIndex({ familyId: 1 });
+db.refresh_sessions.createIndex({ expiresAt: 1 }, { expireAfterSeconds: 0 });
+
 db.candidates.createIndex({ userId: 1 }, { unique: true });
 db.candidates.createIndex({ email: 1 }, { unique: true });
+db.candidates.createIndex(
+  { headline: 'text', about: 'text', 'skills.name': 'text', 'experience.role': 'text', location: 'text' },
+  {
+    name: 'candidate_search',
+    weights: { headline: 10, 'skills.name': 10, 'experience.role': 5, location: 3, about: 1 },
+    default_language: 'english'
+  }
+);
+db.candidates.createIndex({ 'skills.name': 1 });
+db.candidates.createIndex({ location: 1 });
+db.candidates.createIndex({ profileCompletionPercentage: -1, _id: 1 });
+db.candidates.createIndex({ updatedAt: 1 });
 
 db.companies.createIndex({ userId: 1 }, { unique: true });
 db.companies.createIndex({ email: 1 }, { unique: true });
+db.companies.createIndex({ 'apiKeys.keyHash': 1 }, { sparse: true });
+db.companies.createIndex({ updatedAt: 1 });
 
 db.jobs.createIndex({ companyId: 1 });
 db.jobs.createIndex({ status: 1 });
@@ -0,0 +1,74 @@
+package com.applyo.gateway.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Per-request cost of checking one HS256 access token, before and after JwtUtil built its parser once.
+// "perRequest" mirrors the old filter path: validateToken, extractUserId and extractUserType each decoded the
+// secret, built a parser and verified the token again. "sharedParser" is one verify on a prebuilt parser.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "Y29tcGxleFNlY3JldEtleUZvckFwcGx5T0F1dGhlbnRpY2F0aW9uU2VydmljZTEyMzQ1Njc4OTA=";
+
+    private String token;
+    private JwtParser sharedParser;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .subject("user-123")
+                .claim("userType", "CANDIDATE")
+                .claim("email", "candidate@example.com")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(3600)))
+                .signWith(key)
+                .compact();
+        sharedParser = Jwts.parser().verifyWith(key).build();
+    }
+
+    @Benchmark
+    public void perRequest(Blackhole blackhole) {
+        blackhole.consume(!parseWithFreshKey(token).getExpiration().before(new Date()));
+        blackhole.consume(parseWithFreshKey(token).getSubject());
+        blackhole.consume(parseWithFreshKey(token).get("userType", String.class));
+    }
+
+    @Benchmark
+    public JwtPrincipal sharedParser() {
+        Claims claims = sharedParser.parseSignedClaims(token).getPayload();
+        return new JwtPrincipal(claims.getSubject(), claims.get("userType", String.class),
+                claims.getIssuedAt().toInstant(), claims.getExpiration().toInstant());
+    }
+
+    private static Claims parseWithFreshKey(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -1,9 +1,11 @@
 package com.applyo.gateway;
 
+import com.applyo.gateway.filter.BulkheadGatewayFilterFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 
@@ -30,33 +32,52 @@ public class ApiGatewayApplication {
     }
 
     @Bean
-    public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
+    public RouteLocator customRouteLocator(RouteLocatorBuilder builder,
+                                           BulkheadGatewayFilterFactory bulkheadFilterFactory) {
         return builder.routes()
                 // Auth Service Routes
                 .route("auth-service", r -> r
                         .path("/api/v1/auth/**")
+                        .filters(f -> resilient(f, "auth-service", bulkheadFilterFactory))
                         .uri(authServiceUrl))
                 
                 // Candidate Service Routes
                 .route("candidate-service", r -> r
                         .path("/api/v1/candidates/**", "/api/v1/candidate/**")
+                        .filters(f -> resilient(f, "candidate-service", bulkheadFilterFactory))
                         .uri(candidateServiceUrl))
                 
                 // Company Service Routes
                 .route("company-service", r -> r
                         .path("/api/v1/companies/**", "/api/v1/company/**")
+                        .filters(f -> resilient(f, "company-service", bulkheadFilterFactory))
                         .uri(companyServiceUrl))
                 
                 // Application Service Routes
                 .route("application-service", r -> r
                         .path("/api/v1/applications/**", "/api/v1/consent/**")
+                        .filters(f -> resilient(f, "application-service", bulkheadFilterFactory))
                         .uri(applicationServiceUrl))
                 
                 // Document Service Routes
                 .route("document-service", r -> r
                         .path("/api/v1/documents/**")
+                        .filters(f -> resilient(f, "document-service", bulkheadFilterFactory))
                         .uri(documentServiceUrl))
                 
                 .build();
     }
+
+    // Circuit breaker + time limiter and a concurrency bulkhead, all named after the upstream service.
+    // The bulkhead sits inside the breaker so a timed-out call gives its permit back immediately.
+    private static GatewayFilterSpec resilient(GatewayFilterSpec filters, String service,
+                                               BulkheadGatewayFilterFactory bulkheadFilterFactory) {
+        BulkheadGatewayFilterFactory.Config bulkhead = new BulkheadGatewayFilterFactory.Config();
+        bulkhead.setName(service);
+        return filters
+                .circuitBreaker(c -> c
+                        .setName(service)
+                        .setFallbackUri("forward:/fallback/" + service))
+                .filter(bulkheadFilterFactory.apply(bulkhead));
+    }
 }
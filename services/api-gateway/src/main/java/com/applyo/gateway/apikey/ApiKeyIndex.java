@@ -0,0 +1,126 @@
+package com.applyo.gateway.apikey;
+
+import com.applyo.gateway.dto.ApiResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory index of API key hash -> policy, bootstrapped from company-service and then refreshed with
+// incremental "changed since" snapshots. Until the first snapshot arrives, lookups fall back to
+// the per-key resolver.
+@Slf4j
+@Component
+public class ApiKeyIndex {
+
+    private static final ParameterizedTypeReference<ApiResponse<ApiKeyIndexSnapshot>> SNAPSHOT_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final ApiKeyPolicyResolver fallbackResolver;
+    private final Duration refreshInterval;
+
+    private final Map<String, ApiKeyPolicy> policiesByHash = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> hashesByCompany = new ConcurrentHashMap<>();
+
+    private volatile Instant syncedAsOf;
+    private Disposable refreshTask;
+
+    public ApiKeyIndex(WebClient.Builder webClientBuilder,
+                       ApiKeyPolicyResolver fallbackResolver,
+                       MeterRegistry meterRegistry,
+                       @Value("${COMPANY_SERVICE_URL:http://localhost:8082}") String companyServiceUrl,
+                       @Value("${gateway.api-keys.refresh-interval:10s}") Duration refreshInterval) {
+        this.webClient = webClientBuilder.baseUrl(companyServiceUrl).build();
+        this.fallbackResolver = fallbackResolver;
+        this.refreshInterval = refreshInterval;
+        Gauge.builder("gateway.api-keys.indexed", policiesByHash, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startRefresh() {
+        refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stopRefresh() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    public Mono<ApiKeyPolicy> lookup(String keyHash) {
+        if (syncedAsOf == null) {
+            return fallbackResolver.resolve(keyHash);
+        }
+        return Mono.justOrEmpty(policiesByHash.get(keyHash));
+    }
+
+    private Mono<Void> refresh() {
+        Instant since = syncedAsOf;
+        return webClient.get()
+                .uri(uri -> {
+                    uri.path("/internal/api-keys/index");
+                    if (since != null) {
+                        uri.queryParam("since", since.toString());
+                    }
+                    return uri.build();
+                })
+                .retrieve()
+                .bodyToMono(SNAPSHOT_RESPONSE)
+                .doOnNext(response -> apply(response.getData()))
+                .onErrorResume(e -> {
+                    log.warn("API key index refresh failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void apply(ApiKeyIndexSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+
+        // Publish new entries before dropping stale ones so unchanged keys never disappear mid-refresh
+        Map<String, Set<String>> incoming = new HashMap<>();
+        for (ApiKeyPolicy policy : snapshot.getKeys()) {
+            policiesByHash.put(policy.getKeyHash(), policy);
+            incoming.computeIfAbsent(policy.getCompanyId(), id -> new HashSet<>()).add(policy.getKeyHash());
+        }
+        for (String companyId : snapshot.getCompanyIds()) {
+            Set<String> current = incoming.getOrDefault(companyId, Set.of());
+            Set<String> previous = current.isEmpty()
+                    ? hashesByCompany.remove(companyId)
+                    : hashesByCompany.put(companyId, current);
+            if (previous != null) {
+                previous.stream()
+                        .filter(hash -> !current.contains(hash))
+                        .forEach(policiesByHash::remove);
+            }
+        }
+
+        if (syncedAsOf == null) {
+            log.info("API key index bootstrapped with {} keys", policiesByHash.size());
+        }
+        syncedAsOf = snapshot.getAsOf();
+    }
+}
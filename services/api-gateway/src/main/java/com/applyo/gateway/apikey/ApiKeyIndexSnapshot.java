@@ -0,0 +1,19 @@
+package com.applyo.gateway.apikey;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ApiKeyIndexSnapshot {
+
+    private Instant asOf;
+    private List<String> companyIds = new ArrayList<>();
+    private List<ApiKeyPolicy> keys = new ArrayList<>();
+}
@@ -0,0 +1,37 @@
+package com.applyo.gateway.apikey;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ApiKeyPolicy {
+
+    private String keyId;
+    private String keyHash;
+    private String companyId;
+    private String subscriptionTier;
+
+    @Builder.Default
+    private List<String> scopes = new ArrayList<>();
+
+    private Integer rateLimit; // requests per minute
+    private Boolean active;
+    private Instant expiresAt;
+
+    @JsonIgnore
+    public boolean isUsableAt(Instant now) {
+        return Boolean.TRUE.equals(active) && (expiresAt == null || expiresAt.isAfter(now));
+    }
+}
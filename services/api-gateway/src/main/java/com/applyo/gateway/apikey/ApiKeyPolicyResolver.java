@@ -0,0 +1,53 @@
+package com.applyo.gateway.apikey;
+
+import com.applyo.gateway.dto.ApiResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Looks up API key policies from company-service by key hash, caching both hits and misses
+@Slf4j
+@Component
+public class ApiKeyPolicyResolver {
+
+    private static final ParameterizedTypeReference<ApiResponse<ApiKeyPolicy>> POLICY_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final AsyncCache<String, Optional<ApiKeyPolicy>> cache;
+
+    public ApiKeyPolicyResolver(WebClient.Builder webClientBuilder,
+                                @Value("${COMPANY_SERVICE_URL:http://localhost:8082}") String companyServiceUrl,
+                                @Value("${gateway.api-keys.policy-cache-ttl:5m}") Duration policyCacheTtl) {
+        this.webClient = webClientBuilder.baseUrl(companyServiceUrl).build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(policyCacheTtl)
+                .buildAsync();
+    }
+
+    public Mono<ApiKeyPolicy> resolve(String keyHash) {
+        return Mono.fromFuture(() -> cache.get(keyHash, (hash, executor) -> fetch(hash).toFuture()))
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    private Mono<Optional<ApiKeyPolicy>> fetch(String keyHash) {
+        return webClient.get()
+                .uri(uri -> uri.path("/internal/api-keys").queryParam("hash", "{hash}").build(keyHash))
+                .retrieve()
+                .onStatus(status -> status == HttpStatus.NOT_FOUND, response -> Mono.empty())
+                .bodyToMono(POLICY_RESPONSE)
+                .map(response -> Optional.ofNullable(response.getData()))
+                .defaultIfEmpty(Optional.empty())
+                .doOnError(e -> log.warn("API key policy lookup failed: {}", e.getMessage()));
+    }
+}
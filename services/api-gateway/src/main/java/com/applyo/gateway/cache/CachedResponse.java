@@ -0,0 +1,18 @@
+package com.applyo.gateway.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedResponse {
+
+    private String contentType;
+    private String etag;
+    private byte[] body;
+
+    // Epoch millis when the entry stops being servable, so a copy pulled from Redis keeps the original deadline
+    private long expiresAt;
+}
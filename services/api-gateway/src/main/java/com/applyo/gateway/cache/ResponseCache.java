@@ -0,0 +1,83 @@
+package com.applyo.gateway.cache;
+
+import com.applyo.gateway.config.ResponseCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+// Two-tier response store: a small per-instance Caffeine cache in front of the shared Redis tier
+@Slf4j
+@Component
+public class ResponseCache {
+
+    private static final String KEY_PREFIX = "gateway:response-cache:";
+
+    private final ReactiveRedisTemplate<String, CachedResponse> redisTemplate;
+    private final ResponseCacheProperties properties;
+    private final Cache<String, CachedResponse> local;
+
+    public ResponseCache(ReactiveRedisTemplate<String, CachedResponse> responseCacheRedisTemplate,
+                         ResponseCacheProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.redisTemplate = responseCacheRedisTemplate;
+        this.properties = properties;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfter(new RemainingTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "gateway.response-cache");
+    }
+
+    public Mono<CachedResponse> get(String key) {
+        CachedResponse cached = local.getIfPresent(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return redisTemplate.opsForValue().get(KEY_PREFIX + key)
+                .filter(response -> response.getExpiresAt() > System.currentTimeMillis())
+                .doOnNext(response -> local.put(key, response))
+                .onErrorResume(e -> {
+                    log.warn("Response cache read failed for {}: {}", key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    public void put(String key, CachedResponse response) {
+        response.setExpiresAt(System.currentTimeMillis() + properties.getTtl().toMillis());
+        local.put(key, response);
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, response, properties.getTtl())
+                .onErrorResume(e -> {
+                    log.warn("Response cache write failed for {}: {}", key, e.getMessage());
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
+    // Local entries live only as long as the entry has left, whether it was stored here or copied from Redis
+    private static class RemainingTtl implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, response.getExpiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
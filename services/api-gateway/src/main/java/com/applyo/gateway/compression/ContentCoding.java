@@ -0,0 +1,84 @@
+package com.applyo.gateway.compression;
+
+import com.applyo.gateway.config.CompressionProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+// Brotli is not offered: it needs a native encoder that the gateway image does not ship
+public enum ContentCoding {
+
+    ZSTD("zstd"),
+    GZIP("gzip");
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    public StreamingEncoder newEncoder(CompressionProperties properties) {
+        return switch (this) {
+            case ZSTD -> new ZstdEncoder(properties.getZstdLevel());
+            case GZIP -> new GzipEncoder(properties.getGzipLevel());
+        };
+    }
+
+    public static Optional<ContentCoding> fromToken(String token) {
+        for (ContentCoding coding : values()) {
+            if (coding.token.equalsIgnoreCase(token)) {
+                return Optional.of(coding);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Picks the highest-weighted coding from Accept-Encoding, breaking ties by the configured preference order
+    public static Optional<ContentCoding> negotiate(HttpHeaders requestHeaders, List<ContentCoding> preferred) {
+        List<String> acceptEncoding = requestHeaders.get(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Double> weights = new HashMap<>();
+        for (String header : acceptEncoding) {
+            for (String element : StringUtils.tokenizeToStringArray(header, ",")) {
+                String[] parts = StringUtils.tokenizeToStringArray(element, ";");
+                if (parts.length == 0) {
+                    continue;
+                }
+                double weight = 1.0;
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].startsWith("q=")) {
+                        try {
+                            weight = Double.parseDouble(parts[i].substring(2));
+                        } catch (NumberFormatException e) {
+                            weight = 0.0;
+                        }
+                    }
+                }
+                weights.put(parts[0].toLowerCase(Locale.ROOT), weight);
+            }
+        }
+
+        ContentCoding best = null;
+        double bestWeight = 0.0;
+        for (ContentCoding coding : preferred) {
+            double weight = weights.getOrDefault(coding.token, weights.getOrDefault("*", 0.0));
+            if (weight > bestWeight) {
+                best = coding;
+                bestWeight = weight;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+}
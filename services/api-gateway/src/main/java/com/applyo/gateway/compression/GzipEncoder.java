@@ -0,0 +1,59 @@
+package com.applyo.gateway.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+class GzipEncoder implements StreamingEncoder {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+    private final GZIPOutputStream gzip;
+
+    GzipEncoder(int level) {
+        try {
+            // Sync flush so every chunk is emitted downstream as soon as it is compressed
+            this.gzip = new GZIPOutputStream(out, 8192, true) {{
+                def.setLevel(level);
+            }};
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] encode(byte[] chunk) {
+        try {
+            gzip.write(chunk);
+            gzip.flush();
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] finish() {
+        try {
+            gzip.finish();
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            gzip.close();
+        } catch (IOException ignored) {
+            // In-memory stream
+        }
+    }
+
+    private byte[] drain() {
+        byte[] bytes = out.toByteArray();
+        out.reset();
+        return bytes;
+    }
+}
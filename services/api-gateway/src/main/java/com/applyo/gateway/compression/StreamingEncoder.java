@@ -0,0 +1,12 @@
+package com.applyo.gateway.compression;
+
+// Compresses a response body chunk by chunk; each call returns whatever output is ready so far
+public interface StreamingEncoder extends AutoCloseable {
+
+    byte[] encode(byte[] chunk);
+
+    byte[] finish();
+
+    @Override
+    void close();
+}
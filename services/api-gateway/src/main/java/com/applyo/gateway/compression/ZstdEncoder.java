@@ -0,0 +1,58 @@
+package com.applyo.gateway.compression;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+class ZstdEncoder implements StreamingEncoder {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+    private final ZstdOutputStream zstd;
+
+    ZstdEncoder(int level) {
+        try {
+            this.zstd = new ZstdOutputStream(out, level);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] encode(byte[] chunk) {
+        try {
+            zstd.write(chunk);
+            zstd.flush();
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] finish() {
+        try {
+            zstd.close();
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Releases the native context if finish() was never reached (cancelled or failed write)
+        try {
+            zstd.close();
+        } catch (IOException ignored) {
+            // Already closed
+        }
+    }
+
+    private byte[] drain() {
+        byte[] bytes = out.toByteArray();
+        out.reset();
+        return bytes;
+    }
+}
@@ -0,0 +1,24 @@
+package com.applyo.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    // Fraction of successful requests written; 5xx responses are always logged
+    private double sampleRate = 1.0;
+
+    // Records beyond this many pending writes are dropped rather than blocking requests
+    private int bufferSize = 8192;
+
+    private Format format = Format.JSON;
+
+    public enum Format {
+        JSON,
+        TEXT
+    }
+}
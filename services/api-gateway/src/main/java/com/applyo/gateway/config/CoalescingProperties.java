@@ -0,0 +1,29 @@
+package com.applyo.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound on distinct in-flight keys; beyond it requests go upstream individually
+    private int maxKeys = 10_000;
+
+    // How long a follower waits for the leader's response before making its own call
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private int maxBodyBytes = 1024 * 1024;
+
+    // Only anonymous, idempotent routes belong here - one caller's response is handed to all others
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/v1/jobs",
+            "/api/v1/jobs/*"
+    ));
+}
@@ -0,0 +1,41 @@
+package com.applyo.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.compression")
+public class CompressionProperties {
+
+    private boolean enabled = true;
+
+    // Server preference, used when the client accepts several codings with equal weight
+    private List<String> encodings = new ArrayList<>(List.of("zstd", "gzip"));
+
+    // Responses with a known Content-Length below this are sent as-is
+    private long minResponseSize = 1024;
+
+    // Overrides of min-response-size by route id
+    private Map<String, Long> routeMinResponseSizes = new HashMap<>();
+
+    private List<String> mimeTypes = new ArrayList<>(List.of(
+            "application/json",
+            "application/problem+json",
+            "text/plain",
+            "text/html",
+            "application/xml"
+    ));
+
+    private int gzipLevel = 6;
+
+    private int zstdLevel = 3;
+
+    public long minResponseSize(String routeId) {
+        return routeId != null ? routeMinResponseSizes.getOrDefault(routeId, minResponseSize) : minResponseSize;
+    }
+}
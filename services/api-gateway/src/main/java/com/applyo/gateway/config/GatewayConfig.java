@@ -1,32 +1,36 @@
 package com.applyo.gateway.config;
 
-import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
-import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import com.applyo.gateway.cache.CachedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import reactor.core.publisher.Mono;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
+@EnableConfigurationProperties({
+        SecurityProperties.class,
+        ResponseCacheProperties.class,
+        RateLimitProperties.class,
+        AccessLogProperties.class,
+        CoalescingProperties.class,
+        CompressionProperties.class,
+        IdentityProperties.class,
+        RevocationProperties.class
+})
 public class GatewayConfig {
 
     @Bean
-    public KeyResolver userKeyResolver() {
-        return exchange -> {
-            String apiKey = exchange.getRequest().getHeaders().getFirst("X-API-Key");
-            if (apiKey != null) {
-                return Mono.just(apiKey);
-            }
-            String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                return Mono.just(authHeader.substring(7));
-            }
-            return Mono.just(exchange.getRequest().getRemoteAddress().getAddress().getHostAddress());
-        };
-    }
-
-    @Bean
-    public RedisRateLimiter redisRateLimiter() {
-        // 60 requests per minute for companies
-        return new RedisRateLimiter(60, 120, 1);
+    public ReactiveRedisTemplate<String, CachedResponse> responseCacheRedisTemplate(
+            ReactiveRedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        RedisSerializationContext<String, CachedResponse> context = RedisSerializationContext
+                .<String, CachedResponse>newSerializationContext(new StringRedisSerializer())
+                .value(new Jackson2JsonRedisSerializer<>(objectMapper, CachedResponse.class))
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, context);
     }
 }
@@ -0,0 +1,26 @@
+package com.applyo.gateway.config;
+
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(UpstreamPoolProperties.class)
+public class HttpClientConfig {
+
+    // Replaces the gateway's default HttpClientFactory (it backs off when one is defined)
+    @Bean
+    public UpstreamHttpClientFactory gatewayHttpClientFactory(HttpClientProperties properties,
+                                                              ServerProperties serverProperties,
+                                                              HttpClientSslConfigurer sslConfigurer,
+                                                              List<HttpClientCustomizer> customizers,
+                                                              UpstreamPoolProperties upstreamPools) {
+        return new UpstreamHttpClientFactory(properties, serverProperties, sslConfigurer, customizers, upstreamPools);
+    }
+}
@@ -0,0 +1,21 @@
+package com.applyo.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.identity")
+public class IdentityProperties {
+
+    private boolean enabled = true;
+
+    // Base64 HMAC-SHA256 key shared with every downstream service
+    private String secret;
+
+    // Lifetime of envelopes minted for API keys; JWT envelopes expire with their token
+    private Duration apiKeyEnvelopeTtl = Duration.ofMinutes(5);
+
+    private Duration companyLookupCacheTtl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,32 @@
+package com.applyo.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Applied to keys company-service doesn't know about, matching the ApiKey.rateLimit default
+    private int defaultRateLimit = 60;
+
+    private Duration syncInterval = Duration.ofSeconds(1);
+
+    // Burst capacity per subscription tier, as a multiple of the key's per-minute limit
+    private Map<String, Double> tierBurstMultipliers = new HashMap<>(Map.of(
+            "free", 1.0,
+            "starter", 1.5,
+            "professional", 2.0,
+            "enterprise", 3.0
+    ));
+
+    public double burstMultiplier(String tier) {
+        return tier != null ? tierBurstMultipliers.getOrDefault(tier, 1.0) : 1.0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.applyo.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    private Duration ttl = Duration.ofSeconds(30);
+
+    private long localMaxSize = 1000;
+
+    private int maxBodyBytes = 1024 * 1024;
+
+    // Only anonymous, idempotent routes belong here - responses are shared across all callers
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/v1/jobs",
+            "/api/v1/jobs/*"
+    ));
+}
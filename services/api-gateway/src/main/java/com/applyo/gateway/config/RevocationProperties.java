@@ -0,0 +1,23 @@
+package com.applyo.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.revocation")
+public class RevocationProperties {
+
+    private boolean enabled = true;
+
+    private Duration refreshInterval = Duration.ofSeconds(5);
+
+    // Cutoffs older than the longest access token lifetime can't match a live token and are dropped
+    private Duration maxTokenLifetime = Duration.ofMinutes(15);
+
+    // Bloom filter sizing; the filter is rebuilt larger if revocations outgrow it
+    private int expectedRevocations = 10_000;
+
+    private double falsePositiveRate = 0.01;
+}
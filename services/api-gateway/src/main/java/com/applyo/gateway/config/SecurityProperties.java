@@ -0,0 +1,24 @@
+package com.applyo.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.security")
+public class SecurityProperties {
+
+    // Ant-style patterns: "*" matches one path segment, a trailing "/**" matches the path and everything below it
+    private List<String> publicPaths = new ArrayList<>(List.of(
+            "/api/v1/auth/login",
+            "/api/v1/auth/signup",
+            "/api/v1/auth/register",
+            "/api/v1/auth/company/login",
+            "/api/v1/auth/company/signup",
+            "/api/v1/auth/refresh",
+            "/api/v1/health/**",
+            "/actuator/**"
+    ));
+}
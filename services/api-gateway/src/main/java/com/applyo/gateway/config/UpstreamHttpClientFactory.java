@@ -0,0 +1,66 @@
+package com.applyo.gateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Builds the gateway's shared connection provider, then gives each configured upstream its own pool
+@Slf4j
+public class UpstreamHttpClientFactory extends HttpClientFactory {
+
+    private final UpstreamPoolProperties upstreamPools;
+
+    public UpstreamHttpClientFactory(HttpClientProperties properties,
+                                     ServerProperties serverProperties,
+                                     HttpClientSslConfigurer sslConfigurer,
+                                     List<HttpClientCustomizer> customizers,
+                                     UpstreamPoolProperties upstreamPools) {
+        super(properties, serverProperties, sslConfigurer, customizers);
+        this.upstreamPools = upstreamPools;
+    }
+
+    @Override
+    protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+        ConnectionProvider defaults = super.buildConnectionProvider(properties);
+        ConnectionProvider.Builder builder = defaults.mutate();
+        if (builder == null || upstreamPools.getServices().isEmpty()) {
+            // Pooling disabled or nothing to override
+            return defaults;
+        }
+
+        Set<InetSocketAddress> configured = new HashSet<>();
+        upstreamPools.getServices().forEach((service, pool) -> {
+            URI uri = URI.create(pool.getUri());
+            int port = uri.getPort() != -1 ? uri.getPort() : ("https".equals(uri.getScheme()) ? 443 : 80);
+            InetSocketAddress address = InetSocketAddress.createUnresolved(uri.getHost(), port);
+            if (!configured.add(address)) {
+                // Pools are per host:port, so services sharing an address share one pool
+                log.warn("Upstream {} shares {} with another service; its pool settings replace the earlier ones",
+                        service, address);
+            }
+            builder.forRemoteHost(address, spec -> {
+                if (pool.getMaxConnections() != null) spec.maxConnections(pool.getMaxConnections());
+                if (pool.getPendingAcquireMaxCount() != null) spec.pendingAcquireMaxCount(pool.getPendingAcquireMaxCount());
+                if (pool.getPendingAcquireTimeout() != null) spec.pendingAcquireTimeout(pool.getPendingAcquireTimeout());
+                if (pool.getMaxIdleTime() != null) spec.maxIdleTime(pool.getMaxIdleTime());
+                if (pool.getMaxLifeTime() != null) spec.maxLifeTime(pool.getMaxLifeTime());
+                if (pool.getEvictionInterval() != null) spec.evictInBackground(pool.getEvictionInterval());
+                spec.metrics(properties.getPool().isMetrics());
+            });
+            log.info("Connection pool for {} ({}:{}): {}", service, uri.getHost(), port, pool);
+        });
+
+        defaults.dispose();
+        return builder.build();
+    }
+}
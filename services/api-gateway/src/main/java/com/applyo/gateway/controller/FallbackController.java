@@ -0,0 +1,23 @@
+package com.applyo.gateway.controller;
+
+import com.applyo.gateway.dto.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// Target of the CircuitBreaker filters' fallbackUri; answers immediately instead of queueing on a sick upstream
+@Slf4j
+@RestController
+@RequestMapping("/fallback")
+public class FallbackController {
+
+    @RequestMapping("/{service}")
+    public ResponseEntity<ApiResponse<Void>> serviceUnavailable(@PathVariable String service) {
+        log.warn("Fallback triggered for {}", service);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(503, "Service temporarily unavailable, please retry shortly"));
+    }
+}
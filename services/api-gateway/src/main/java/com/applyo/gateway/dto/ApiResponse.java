@@ -0,0 +1,41 @@
+package com.applyo.gateway.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Same envelope the downstream services return
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ApiResponse<T> {
+
+    private boolean success;
+    private T data;
+    private ErrorDetails error;
+
+    public static <T> ApiResponse<T> error(int code, String message) {
+        return ApiResponse.<T>builder()
+                .success(false)
+                .error(ErrorDetails.builder()
+                        .code(code)
+                        .message(message)
+                        .build())
+                .build();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ErrorDetails {
+        private int code;
+        private String message;
+    }
+}
@@ -0,0 +1,56 @@
+package com.applyo.gateway.filter;
+
+import com.applyo.gateway.apikey.ApiKeyPolicy;
+import com.applyo.gateway.config.RateLimitProperties;
+import com.applyo.gateway.ratelimit.ApiKeyRateLimiter;
+import com.applyo.gateway.ratelimit.RateLimitDecision;
+import com.applyo.gateway.util.Hashing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyRateLimitFilter implements GlobalFilter, Ordered {
+
+    private final ApiKeyRateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+
+    // Only keys JwtAuthenticationFilter has verified are limited: unknown keys are rejected there, and on public
+    // paths the key is never checked, so neither may allocate a bucket
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ApiKeyPolicy policy = exchange.getAttribute(JwtAuthenticationFilter.API_KEY_POLICY_ATTR);
+        String apiKey = exchange.getRequest().getHeaders().getFirst("X-API-Key");
+        if (!properties.isEnabled() || policy == null || apiKey == null) {
+            return chain.filter(exchange);
+        }
+
+        RateLimitDecision decision = rateLimiter.tryAcquire(Hashing.sha256Base64(apiKey), policy);
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set("X-RateLimit-Limit", String.valueOf(decision.getLimit()));
+        response.getHeaders().set("X-RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+
+        if (!decision.isAllowed()) {
+            log.warn("Rate limit exceeded for API key {}", policy.getKeyId());
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(decision.getRetryAfterSeconds()));
+            return response.setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return -90;
+    }
+}
@@ -0,0 +1,71 @@
+package com.applyo.gateway.filter;
+
+import com.applyo.gateway.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Per-route concurrency cap ("Bulkhead=<name>"), sized by resilience4j.bulkhead.instances.<name>.
+// Calls over the limit fail fast with 503 instead of holding gateway connections.
+@Slf4j
+@Component
+public class BulkheadGatewayFilterFactory extends AbstractGatewayFilterFactory<BulkheadGatewayFilterFactory.Config> {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ObjectMapper objectMapper;
+
+    public BulkheadGatewayFilterFactory(BulkheadRegistry bulkheadRegistry, ObjectMapper objectMapper) {
+        super(Config.class);
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("name");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(config.getName());
+        return (exchange, chain) -> {
+            if (!bulkhead.tryAcquirePermission()) {
+                log.warn("Bulkhead {} full, rejecting {}", config.getName(), exchange.getRequest().getPath());
+                return reject(exchange);
+            }
+            return chain.filter(exchange)
+                    .doFinally(signal -> bulkhead.onComplete());
+        };
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(
+                    ApiResponse.error(503, "Service is at capacity, please retry shortly"));
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+    }
+
+    @Data
+    public static class Config {
+        private String name;
+    }
+}
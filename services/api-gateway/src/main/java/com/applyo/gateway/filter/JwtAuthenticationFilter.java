@@ -1,6 +1,15 @@
 package com.applyo.gateway.filter;
 
-import com.applyo.gateway.util.JwtUtil;
+import com.applyo.gateway.apikey.ApiKeyIndex;
+import com.applyo.gateway.config.IdentityProperties;
+import com.applyo.gateway.config.SecurityProperties;
+import com.applyo.gateway.identity.IdentityEnvelopeCache;
+import com.applyo.gateway.revocation.RevocationList;
+import com.applyo.gateway.util.Hashing;
+import com.applyo.gateway.util.JwtPrincipal;
+import com.applyo.gateway.util.PathTrie;
+import com.applyo.gateway.util.VerifiedTokenCache;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -13,44 +22,72 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
-    private final JwtUtil jwtUtil;
+    // Set on the exchange once an X-API-Key has been verified, so later filters never act on an unknown key
+    public static final String API_KEY_POLICY_ATTR = JwtAuthenticationFilter.class.getName() + ".apiKeyPolicy";
 
-    private static final List<String> PUBLIC_PATHS = List.of(
-            "/api/v1/auth/login",
-            "/api/v1/auth/signup",
-            "/api/v1/auth/register",
-            "/api/v1/auth/company/login",
-            "/api/v1/auth/company/signup",
-            "/api/v1/auth/refresh",
-            "/api/v1/health",
-            "/actuator"
-    );
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ApiKeyIndex apiKeyIndex;
+    private final SecurityProperties securityProperties;
+    private final IdentityProperties identityProperties;
+    private final IdentityEnvelopeCache identityEnvelopes;
+    private final RevocationList revocationList;
+
+    private PathTrie publicPaths;
+
+    @PostConstruct
+    void compilePublicPaths() {
+        this.publicPaths = PathTrie.compile(securityProperties.getPublicPaths());
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        ServerHttpRequest request = exchange.getRequest();
+        // Only the gateway may mint identity envelopes
+        ServerHttpRequest request = exchange.getRequest().getHeaders().containsKey(IdentityEnvelopeCache.HEADER)
+                ? exchange.getRequest().mutate().headers(headers -> headers.remove(IdentityEnvelopeCache.HEADER)).build()
+                : exchange.getRequest();
         String path = request.getPath().value();
 
         // Skip authentication for public paths
         if (isPublicPath(path)) {
-            return chain.filter(exchange);
+            return chain.filter(exchange.mutate().request(request).build());
         }
 
         // Check for API Key (for company API access)
         String apiKey = request.getHeaders().getFirst("X-API-Key");
         if (apiKey != null) {
-            // Add API key to headers for downstream services
-            ServerHttpRequest modifiedRequest = request.mutate()
-                    .header("X-API-Key", apiKey)
-                    .build();
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+            return apiKeyIndex.lookup(Hashing.sha256Base64(apiKey))
+                    .filter(policy -> policy.isUsableAt(Instant.now()))
+                    .onErrorResume(e -> Mono.empty())
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(policy -> {
+                        if (policy.isEmpty()) {
+                            log.warn("Unknown, revoked or expired API key for path: {}", path);
+                            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                            return exchange.getResponse().setComplete();
+                        }
+
+                        // Add the verified key's company and scopes to headers for downstream services
+                        ServerHttpRequest modifiedRequest = request.mutate()
+                                .headers(headers -> {
+                                    headers.set("X-Company-Id", policy.get().getCompanyId());
+                                    headers.set("X-API-Key-Scopes", String.join(",", policy.get().getScopes()));
+                                    if (identityProperties.isEnabled()) {
+                                        headers.set(IdentityEnvelopeCache.HEADER, identityEnvelopes.forApiKey(policy.get()));
+                                    }
+                                })
+                                .build();
+                        exchange.getAttributes().put(API_KEY_POLICY_ATTR, policy.get());
+                        return chain.filter(exchange.mutate().request(modifiedRequest).build());
+                    });
         }
 
         // Check for JWT token
@@ -63,33 +100,35 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         String token = authHeader.substring(7);
 
-        try {
-            if (!jwtUtil.validateToken(token)) {
-                log.warn("Invalid JWT token for path: {}", path);
-                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-                return exchange.getResponse().setComplete();
-            }
-
-            // Extract user info and add to headers
-            String userId = jwtUtil.extractUserId(token);
-            String userType = jwtUtil.extractUserType(token);
-
-            ServerHttpRequest modifiedRequest = request.mutate()
-                    .header("X-User-Id", userId)
-                    .header("X-User-Type", userType)
-                    .build();
-
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+        Optional<JwtPrincipal> principal = verifiedTokenCache.verify(token);
+        if (principal.isEmpty()) {
+            log.warn("Invalid JWT token for path: {}", path);
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
 
-        } catch (Exception e) {
-            log.error("JWT validation error: {}", e.getMessage());
+        if (revocationList.isRevoked(principal.get().getUserId(), principal.get().getIssuedAt())) {
+            log.warn("Revoked JWT token for path: {}", path);
             exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
             return exchange.getResponse().setComplete();
         }
+
+        // Add user info from the verified claims to headers
+        ServerHttpRequest.Builder modifiedRequest = request.mutate()
+                .header("X-User-Id", principal.get().getUserId())
+                .header("X-User-Type", principal.get().getUserType());
+
+        if (!identityProperties.isEnabled()) {
+            return chain.filter(exchange.mutate().request(modifiedRequest.build()).build());
+        }
+        return identityEnvelopes.forToken(Hashing.sha256Base64(token), principal.get())
+                .flatMap(envelope -> chain.filter(exchange.mutate()
+                        .request(modifiedRequest.header(IdentityEnvelopeCache.HEADER, envelope).build())
+                        .build()));
     }
 
     private boolean isPublicPath(String path) {
-        return PUBLIC_PATHS.stream().anyMatch(path::startsWith);
+        return publicPaths.matches(path);
     }
 
     @Override
@@ -0,0 +1,174 @@
+package com.applyo.gateway.filter;
+
+import com.applyo.gateway.config.CoalescingProperties;
+import com.applyo.gateway.util.PathTrie;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+// Collapses identical concurrent GETs: the first request (leader) goes upstream, requests arriving while it
+// is in flight (followers) wait for its response and get a copy. Runs after ResponseCacheFilter, so only
+// cache misses are coalesced.
+@Slf4j
+@Component
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    // Hop-by-hop and per-caller headers are never copied to followers; upstreams may send any case
+    private static final Set<String> UNSHARED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        UNSHARED_HEADERS.addAll(List.of(
+                HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION,
+                HttpHeaders.SET_COOKIE, HttpHeaders.COOKIE, HttpHeaders.AUTHORIZATION));
+    }
+
+    private final CoalescingProperties properties;
+    private final PathTrie coalescedPaths;
+    private final Map<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter fallbacks;
+
+    public RequestCoalescingFilter(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.coalescedPaths = PathTrie.compile(properties.getPaths());
+        this.leaders = meterRegistry.counter("gateway.coalescing.requests", "role", "leader");
+        this.followers = meterRegistry.counter("gateway.coalescing.requests", "role", "follower");
+        this.fallbacks = meterRegistry.counter("gateway.coalescing.requests", "role", "fallback");
+        Gauge.builder("gateway.coalescing.in-flight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled()
+                || request.getMethod() != HttpMethod.GET
+                || !coalescedPaths.matches(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        String key = coalescingKey(request);
+        Sinks.One<SharedResponse> sink = Sinks.one();
+        Sinks.One<SharedResponse> existing = inFlight.size() < properties.getMaxKeys()
+                ? inFlight.putIfAbsent(key, sink)
+                : sink;
+
+        if (existing == null) {
+            leaders.increment();
+            return chain.filter(exchange.mutate().response(new SharingResponseDecorator(exchange, sink)).build())
+                    .doFinally(signal -> {
+                        inFlight.remove(key, sink);
+                        // No-op if the response was already shared; otherwise releases followers to go upstream
+                        sink.tryEmitEmpty();
+                    });
+        }
+        if (existing == sink) {
+            // Too many distinct keys in flight
+            return chain.filter(exchange);
+        }
+
+        return existing.asMono()
+                .timeout(properties.getTimeout())
+                .map(Optional::of)
+                .onErrorResume(TimeoutException.class, e -> Mono.empty())
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(shared -> {
+                    if (shared.isPresent()) {
+                        followers.increment();
+                        return write(exchange.getResponse(), shared.get());
+                    }
+                    // Leader failed, timed out or its body was too large to share
+                    fallbacks.increment();
+                    return chain.filter(exchange);
+                });
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.getStatus());
+        shared.getHeaders().forEach((name, values) -> {
+            if (!response.getHeaders().containsKey(name)) {
+                response.getHeaders().put(name, values);
+            }
+        });
+        response.getHeaders().setContentLength(shared.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.getBody())));
+    }
+
+    private static String coalescingKey(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String path = request.getPath().value();
+        return query != null ? path + "?" + query : path;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class SharedResponse {
+        private final HttpStatusCode status;
+        private final HttpHeaders headers;
+        private final byte[] body;
+    }
+
+    // Buffers the leader's body once, hands a copy to waiting followers, then writes it through
+    private class SharingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final Sinks.One<SharedResponse> sink;
+
+        SharingResponseDecorator(ServerWebExchange exchange, Sinks.One<SharedResponse> sink) {
+            super(exchange.getResponse());
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                if (bytes.length <= properties.getMaxBodyBytes()) {
+                    HttpHeaders headers = new HttpHeaders();
+                    getHeaders().forEach((name, values) -> {
+                        if (!UNSHARED_HEADERS.contains(name)) {
+                            headers.put(name, List.copyOf(values));
+                        }
+                    });
+                    sink.tryEmitValue(new SharedResponse(getStatusCode(), headers, bytes));
+                }
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return -40;
+    }
+}
@@ -1,47 +1,69 @@
 package com.applyo.gateway.filter;
 
-import lombok.extern.slf4j.Slf4j;
+import com.applyo.gateway.config.AccessLogProperties;
+import com.applyo.gateway.logging.AccessLogRecord;
+import com.applyo.gateway.logging.AccessLogWriter;
+import com.applyo.gateway.logging.RequestIdGenerator;
+import com.applyo.gateway.metrics.RouteLatencyRecorder;
+import lombok.RequiredArgsConstructor;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.Instant;
-import java.util.UUID;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ThreadLocalRandom;
 
-@Slf4j
 @Component
+@RequiredArgsConstructor
 public class RequestLoggingFilter implements GlobalFilter, Ordered {
 
+    private final RequestIdGenerator requestIdGenerator;
+    private final AccessLogWriter accessLogWriter;
+    private final AccessLogProperties properties;
+    private final RouteLatencyRecorder routeLatencyRecorder;
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        String requestId = UUID.randomUUID().toString();
-        long startTime = Instant.now().toEpochMilli();
-        
-        ServerHttpRequest request = exchange.getRequest();
-        
-        log.info("Request started - ID: {}, Method: {}, Path: {}, Client: {}",
-                requestId,
-                request.getMethod(),
-                request.getPath().value(),
-                request.getRemoteAddress());
+        String requestId = requestIdGenerator.next();
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
 
+        ServerHttpRequest request = exchange.getRequest();
         ServerHttpRequest modifiedRequest = request.mutate()
                 .header("X-Request-Id", requestId)
-                .header("X-Request-Start", String.valueOf(startTime))
+                .header("X-Request-Start", String.valueOf(startMillis))
                 .build();
 
+        boolean sampled = properties.isEnabled()
+                && (properties.getSampleRate() >= 1.0
+                || ThreadLocalRandom.current().nextDouble() < properties.getSampleRate());
+
         return chain.filter(exchange.mutate().request(modifiedRequest).build())
-                .then(Mono.fromRunnable(() -> {
-                    long duration = Instant.now().toEpochMilli() - startTime;
-                    log.info("Request completed - ID: {}, Status: {}, Duration: {}ms",
+                .doFinally(signal -> {
+                    long durationNanos = System.nanoTime() - startNanos;
+                    HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+                    int status = statusCode != null ? statusCode.value() : 0;
+
+                    routeLatencyRecorder.record(exchange, status, durationNanos);
+
+                    if (!properties.isEnabled() || (!sampled && status < 500)) {
+                        return;
+                    }
+                    InetSocketAddress remoteAddress = request.getRemoteAddress();
+                    accessLogWriter.submit(new AccessLogRecord(
                             requestId,
-                            exchange.getResponse().getStatusCode(),
-                            duration);
-                }));
+                            startMillis,
+                            request.getMethod().name(),
+                            request.getPath().value(),
+                            status,
+                            durationNanos / 1_000,
+                            remoteAddress != null ? remoteAddress.getHostString() : null));
+                });
     }
 
     @Override
@@ -0,0 +1,171 @@
+package com.applyo.gateway.filter;
+
+import com.applyo.gateway.cache.CachedResponse;
+import com.applyo.gateway.cache.ResponseCache;
+import com.applyo.gateway.config.ResponseCacheProperties;
+import com.applyo.gateway.util.Hashing;
+import com.applyo.gateway.util.PathTrie;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCache responseCache;
+    private final ResponseCacheProperties properties;
+
+    private PathTrie cacheablePaths;
+
+    @PostConstruct
+    void compileCacheablePaths() {
+        this.cacheablePaths = PathTrie.compile(properties.getPaths());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled()
+                || request.getMethod() != HttpMethod.GET
+                || !cacheablePaths.matches(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(request);
+        return responseCache.get(key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(cached -> cached.isPresent()
+                        ? writeCached(exchange, cached.get())
+                        : chain.filter(exchange.mutate()
+                                .response(new CachingResponseDecorator(exchange, key))
+                                .build()));
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.getEtag());
+        response.getHeaders().set(CACHE_HEADER, "HIT");
+
+        if (matchesIfNoneMatch(exchange.getRequest(), cached.getEtag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.getContentType() != null) {
+            response.getHeaders().setContentType(MediaType.parseMediaType(cached.getContentType()));
+        }
+        response.getHeaders().setContentLength(cached.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    private static boolean matchesIfNoneMatch(ServerHttpRequest request, String etag) {
+        // Weak comparison: compressed responses carry a W/ copy of the same tag
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String cacheKey(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String path = request.getPath().value();
+        return query != null ? path + "?" + query : path;
+    }
+
+    // Upstream opted out of shared caching, or the response carries per-caller cookies
+    private static boolean isShareable(HttpHeaders headers) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        for (String value : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : value.split(",")) {
+                String name = directive.trim().toLowerCase(Locale.ROOT);
+                if (name.equals("no-store") || name.equals("private") || name.startsWith("private=")) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String etag(byte[] body) {
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Hashing.sha256(body)) + "\"";
+    }
+
+    // Buffers successful upstream bodies so they can be stored and tagged before being written
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+
+        CachingResponseDecorator(ServerWebExchange exchange, String key) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (getStatusCode() != HttpStatus.OK) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                String etag = etag(bytes);
+                if (bytes.length <= properties.getMaxBodyBytes() && isShareable(getHeaders())) {
+                    MediaType contentType = getHeaders().getContentType();
+                    responseCache.put(key, new CachedResponse(
+                            contentType != null ? contentType.toString() : null, etag, bytes, 0));
+                }
+
+                getHeaders().setETag(etag);
+                getHeaders().set(CACHE_HEADER, "MISS");
+
+                if (matchesIfNoneMatch(exchange.getRequest(), etag)) {
+                    setStatusCode(HttpStatus.NOT_MODIFIED);
+                    getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                    return setComplete();
+                }
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // After authentication, before NettyWriteResponseFilter commits the upstream response
+        return -50;
+    }
+}
@@ -0,0 +1,160 @@
+package com.applyo.gateway.filter;
+
+import com.applyo.gateway.compression.ContentCoding;
+import com.applyo.gateway.compression.StreamingEncoder;
+import com.applyo.gateway.config.CompressionProperties;
+import com.applyo.gateway.metrics.CompressionRecorder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.Optional;
+
+// Compresses response bodies chunk by chunk as they stream through, so large pages are never held in full.
+// Ordered ahead of the response cache and coalescing filters so they keep working on identity-encoded bytes.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCompressionFilter implements GlobalFilter, Ordered {
+
+    private final CompressionProperties properties;
+    private final CompressionRecorder compressionRecorder;
+
+    private List<ContentCoding> preferredCodings;
+    private List<MediaType> compressibleTypes;
+
+    @PostConstruct
+    void resolveCodings() {
+        this.preferredCodings = properties.getEncodings().stream()
+                .map(token -> {
+                    Optional<ContentCoding> coding = ContentCoding.fromToken(token);
+                    if (coding.isEmpty()) {
+                        log.warn("Ignoring unsupported response encoding '{}'", token);
+                    }
+                    return coding;
+                })
+                .flatMap(Optional::stream)
+                .toList();
+        this.compressibleTypes = properties.getMimeTypes().stream().map(MediaType::parseMediaType).toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled() || exchange.getRequest().getMethod() == HttpMethod.HEAD) {
+            return chain.filter(exchange);
+        }
+
+        return ContentCoding.negotiate(exchange.getRequest().getHeaders(), preferredCodings)
+                .map(coding -> chain.filter(exchange.mutate()
+                        .response(new CompressingResponseDecorator(exchange, coding))
+                        .build()))
+                .orElseGet(() -> chain.filter(exchange));
+    }
+
+    private boolean isCompressible(MediaType contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        for (MediaType type : compressibleTypes) {
+            if (type.isCompatibleWith(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private class CompressingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final ContentCoding coding;
+
+        CompressingResponseDecorator(ServerWebExchange exchange, ContentCoding coding) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.coding = coding;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            if (!isCompressible(headers.getContentType())) {
+                return super.writeWith(body);
+            }
+            if (!headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING)) {
+                headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+
+            String routeId = routeId();
+            HttpStatusCode status = getStatusCode();
+            long contentLength = headers.getContentLength();
+            if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+                    || status == HttpStatus.NO_CONTENT
+                    || status == HttpStatus.NOT_MODIFIED
+                    || (contentLength >= 0 && contentLength < properties.minResponseSize(routeId))) {
+                return super.writeWith(body);
+            }
+
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.set(HttpHeaders.CONTENT_ENCODING, coding.token());
+            // The encoded representation is no longer byte-identical to the one the ETag was computed over
+            String etag = headers.getETag();
+            if (etag != null && !etag.startsWith("W/")) {
+                headers.setETag("W/" + etag);
+            }
+
+            StreamingEncoder encoder = coding.newEncoder(properties);
+            long[] bytes = new long[2];
+            Flux<DataBuffer> compressed = Flux.from(body)
+                    .map(buffer -> {
+                        byte[] chunk = new byte[buffer.readableByteCount()];
+                        buffer.read(chunk);
+                        DataBufferUtils.release(buffer);
+                        bytes[0] += chunk.length;
+                        return encoder.encode(chunk);
+                    })
+                    .concatWith(Mono.fromCallable(encoder::finish))
+                    .filter(chunk -> chunk.length > 0)
+                    .map(chunk -> {
+                        bytes[1] += chunk.length;
+                        return bufferFactory().wrap(chunk);
+                    })
+                    .doFinally(signal -> {
+                        encoder.close();
+                        if (signal == SignalType.ON_COMPLETE) {
+                            compressionRecorder.record(routeId, coding.token(), bytes[0], bytes[1]);
+                        }
+                    });
+            return super.writeWith(compressed);
+        }
+
+        private String routeId() {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            return route != null ? route.getId() : "none";
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return -60;
+    }
+}
@@ -0,0 +1,61 @@
+package com.applyo.gateway.identity;
+
+import com.applyo.gateway.config.IdentityProperties;
+import com.applyo.gateway.dto.ApiResponse;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+// Maps company users to their company id via company-service. Misses are cached too (user hasn't
+// created a company yet); failures are not, so the next token lookup retries.
+@Slf4j
+@Component
+public class CompanyDirectory {
+
+    private static final ParameterizedTypeReference<ApiResponse<CompanyRef>> COMPANY_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final AsyncCache<String, Optional<String>> cache;
+
+    public CompanyDirectory(WebClient.Builder webClientBuilder,
+                            @Value("${COMPANY_SERVICE_URL:http://localhost:8082}") String companyServiceUrl,
+                            IdentityProperties properties) {
+        this.webClient = webClientBuilder.baseUrl(companyServiceUrl).build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(properties.getCompanyLookupCacheTtl())
+                .buildAsync();
+    }
+
+    public Mono<Optional<String>> companyIdForUser(String userId) {
+        return Mono.fromFuture(() -> cache.get(userId, (id, executor) -> fetch(id).toFuture()));
+    }
+
+    private Mono<Optional<String>> fetch(String userId) {
+        return webClient.get()
+                .uri("/internal/companies/by-user/{userId}", userId)
+                .retrieve()
+                .onStatus(status -> status == HttpStatus.NOT_FOUND, response -> Mono.empty())
+                .bodyToMono(COMPANY_RESPONSE)
+                .map(response -> Optional.ofNullable(response.getData()).map(CompanyRef::getId))
+                .defaultIfEmpty(Optional.empty())
+                .doOnError(e -> log.warn("Company lookup for user {} failed: {}", userId, e.getMessage()));
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class CompanyRef {
+        private String id;
+    }
+}
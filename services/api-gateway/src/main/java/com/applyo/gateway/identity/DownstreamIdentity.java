@@ -0,0 +1,21 @@
+package com.applyo.gateway.identity;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+// Payload of the X-Identity envelope; short field names keep the header compact
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class DownstreamIdentity {
+
+    String sub;  // user id, absent for API key calls
+    String typ;  // CANDIDATE, COMPANY or API_KEY
+    String cid;  // company id
+    String kid;  // API key id
+    List<String> scp;
+    long exp;    // epoch seconds
+}
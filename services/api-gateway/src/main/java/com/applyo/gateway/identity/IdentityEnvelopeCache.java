@@ -0,0 +1,118 @@
+package com.applyo.gateway.identity;
+
+import com.applyo.gateway.apikey.ApiKeyPolicy;
+import com.applyo.gateway.config.IdentityProperties;
+import com.applyo.gateway.util.JwtPrincipal;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+// Signed envelopes are minted once per token (or API key) and reused until they expire
+@Slf4j
+@Component
+public class IdentityEnvelopeCache {
+
+    public static final String HEADER = "X-Identity";
+
+    private static final String COMPANY_USER_TYPE = "COMPANY";
+    private static final String API_KEY_TYPE = "API_KEY";
+
+    private final IdentitySigner signer;
+    private final CompanyDirectory companyDirectory;
+    private final Duration apiKeyEnvelopeTtl;
+    private final AsyncCache<String, SignedEnvelope> tokenEnvelopes;
+    private final Cache<String, String> apiKeyEnvelopes;
+
+    public IdentityEnvelopeCache(IdentitySigner signer,
+                                 CompanyDirectory companyDirectory,
+                                 IdentityProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.signer = signer;
+        this.companyDirectory = companyDirectory;
+        this.apiKeyEnvelopeTtl = properties.getApiKeyEnvelopeTtl();
+        this.tokenEnvelopes = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfter(new ExpireWithEnvelope())
+                .recordStats()
+                .buildAsync();
+        // Re-minted at half the envelope lifetime so services never see one close to expiry
+        this.apiKeyEnvelopes = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(apiKeyEnvelopeTtl.dividedBy(2))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenEnvelopes.synchronous(), "gateway.identity.envelopes");
+    }
+
+    public Mono<String> forToken(String tokenHash, JwtPrincipal principal) {
+        return Mono.fromFuture(() -> tokenEnvelopes.get(tokenHash, (key, executor) -> mint(principal).toFuture()))
+                .map(SignedEnvelope::getValue)
+                // Company lookup failed: send an uncached envelope without the company id
+                .onErrorResume(e -> Mono.just(sign(principal, Optional.empty()).getValue()));
+    }
+
+    public String forApiKey(ApiKeyPolicy policy) {
+        return apiKeyEnvelopes.get(policy.getKeyHash(), hash -> signer.sign(DownstreamIdentity.builder()
+                .typ(API_KEY_TYPE)
+                .cid(policy.getCompanyId())
+                .kid(policy.getKeyId())
+                .scp(policy.getScopes() != null ? List.copyOf(policy.getScopes()) : List.of())
+                .exp(Instant.now().plus(apiKeyEnvelopeTtl).getEpochSecond())
+                .build()));
+    }
+
+    private Mono<SignedEnvelope> mint(JwtPrincipal principal) {
+        if (!COMPANY_USER_TYPE.equalsIgnoreCase(principal.getUserType())) {
+            return Mono.just(sign(principal, Optional.empty()));
+        }
+        return companyDirectory.companyIdForUser(principal.getUserId())
+                .map(companyId -> sign(principal, companyId));
+    }
+
+    private SignedEnvelope sign(JwtPrincipal principal, Optional<String> companyId) {
+        String value = signer.sign(DownstreamIdentity.builder()
+                .sub(principal.getUserId())
+                .typ(principal.getUserType())
+                .cid(companyId.orElse(null))
+                .exp(principal.getExpiresAt().getEpochSecond())
+                .build());
+        return new SignedEnvelope(value, principal.getExpiresAt());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class SignedEnvelope {
+        private final String value;
+        private final Instant expiresAt;
+    }
+
+    private static class ExpireWithEnvelope implements Expiry<String, SignedEnvelope> {
+
+        @Override
+        public long expireAfterCreate(String key, SignedEnvelope value, long currentTime) {
+            return Math.max(Duration.between(Instant.now(), value.getExpiresAt()).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, SignedEnvelope value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, SignedEnvelope value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.applyo.gateway.identity;
+
+import com.applyo.gateway.config.IdentityProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+// Envelope format: base64url(json payload) "." base64url(HMAC-SHA256 over the encoded payload)
+@Component
+public class IdentitySigner {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final ObjectMapper objectMapper;
+    private final ThreadLocal<Mac> mac;
+
+    public IdentitySigner(IdentityProperties properties, ObjectMapper objectMapper) {
+        if (!StringUtils.hasText(properties.getSecret())) {
+            throw new IllegalStateException("gateway.identity.secret (IDENTITY_SECRET) must be set; generate one with: openssl rand -base64 32");
+        }
+        this.objectMapper = objectMapper;
+        SecretKeySpec key = new SecretKeySpec(Base64.getDecoder().decode(properties.getSecret()), "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance("HmacSHA256");
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    public String sign(DownstreamIdentity identity) {
+        try {
+            String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(identity));
+            byte[] signature = mac.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            return payload + '.' + ENCODER.encodeToString(signature);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize identity envelope", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.applyo.gateway.identity;
+
+import com.applyo.gateway.config.IdentityProperties;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+// Signs the gateway's own calls to services' /internal/** endpoints; see InternalRequestFilter in the services
+// for the format. The key is HMAC-SHA256(identity secret, "internal-auth"), never the envelope key itself.
+// The gateway only makes bodiless internal calls, so a request with a body is refused rather than signed.
+@Component
+public class InternalRequestSigner implements WebClientCustomizer {
+
+    public static final String HEADER = "X-Internal-Auth";
+
+    private static final String KEY_LABEL = "internal-auth";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String EMPTY_BODY_HASH;
+
+    static {
+        try {
+            EMPTY_BODY_HASH = ENCODER.encodeToString(MessageDigest.getInstance("SHA-256").digest(new byte[0]));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Mac> mac;
+
+    public InternalRequestSigner(IdentityProperties properties) {
+        SecretKeySpec key = new SecretKeySpec(deriveKey(properties.getSecret()), "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance("HmacSHA256");
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    @Override
+    public void customize(WebClient.Builder webClientBuilder) {
+        webClientBuilder.filter((request, next) -> {
+            if (!request.url().getRawPath().startsWith("/internal/")) {
+                return next.exchange(request);
+            }
+            if (request.body() != BodyInserters.empty()) {
+                return Mono.error(new IllegalStateException("Internal calls from the gateway must not carry a body"));
+            }
+            return next.exchange(ClientRequest.from(request)
+                    .header(HEADER, sign(request.method().name(), request.url()))
+                    .build());
+        });
+    }
+
+    private String sign(String method, URI url) {
+        long timestamp = Instant.now().getEpochSecond();
+        byte[] nonceBytes = new byte[16];
+        secureRandom.nextBytes(nonceBytes);
+        String nonce = HexFormat.of().formatHex(nonceBytes);
+        String query = url.getRawQuery() != null ? url.getRawQuery() : "";
+        String canonical = timestamp + "\n" + nonce + "\n" + method + "\n" + url.getRawPath() + "\n" + query + "\n" + EMPTY_BODY_HASH;
+        byte[] signature = mac.get().doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+        return timestamp + "." + nonce + "." + ENCODER.encodeToString(signature);
+    }
+
+    private static byte[] deriveKey(String secret) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("gateway.identity.secret (IDENTITY_SECRET) must be set; generate one with: openssl rand -base64 32");
+        }
+        try {
+            Mac derive = Mac.getInstance("HmacSHA256");
+            derive.init(new SecretKeySpec(Base64.getDecoder().decode(secret), "HmacSHA256"));
+            return derive.doFinal(KEY_LABEL.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.applyo.gateway.logging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccessLogRecord {
+
+    private final String requestId;
+    private final long timestampMillis;
+    private final String method;
+    private final String path;
+    private final int status;
+    private final long durationMicros;
+    private final String client;
+}
@@ -0,0 +1,120 @@
+package com.applyo.gateway.logging;
+
+import com.applyo.gateway.config.AccessLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Request threads only enqueue; formatting and logging happen on a single background thread
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access-log");
+    private static final int BATCH_SIZE = 256;
+
+    private final AccessLogProperties properties;
+    private final BlockingQueue<AccessLogRecord> queue;
+    private final Counter dropped;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private Thread worker;
+    private volatile boolean running;
+
+    public AccessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.dropped = meterRegistry.counter("gateway.access-log.dropped");
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "access-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(2));
+    }
+
+    public void submit(AccessLogRecord record) {
+        if (!queue.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<AccessLogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                AccessLogRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                batch.forEach(this::write);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // Shutting down: flush whatever is left
+                queue.drainTo(batch);
+                batch.forEach(this::write);
+                return;
+            }
+        }
+    }
+
+    private void write(AccessLogRecord record) {
+        line.setLength(0);
+        if (properties.getFormat() == AccessLogProperties.Format.JSON) {
+            line.append("{\"id\":\"").append(record.getRequestId())
+                    .append("\",\"ts\":").append(record.getTimestampMillis())
+                    .append(",\"method\":\"").append(record.getMethod())
+                    .append("\",\"path\":\"");
+            appendEscaped(record.getPath());
+            line.append("\",\"status\":").append(record.getStatus())
+                    .append(",\"durationUs\":").append(record.getDurationMicros())
+                    .append(",\"client\":\"");
+            appendEscaped(record.getClient());
+            line.append("\"}");
+        } else {
+            line.append(record.getRequestId()).append(' ')
+                    .append(record.getMethod()).append(' ')
+                    .append(record.getPath()).append(' ')
+                    .append(record.getStatus()).append(' ')
+                    .append(record.getDurationMicros()).append("us ")
+                    .append(record.getClient());
+        }
+        ACCESS_LOG.info(line.toString());
+    }
+
+    private void appendEscaped(String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.applyo.gateway.logging;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Process-unique prefix plus a monotonic counter; far cheaper than a random UUID per request
+@Component
+public class RequestIdGenerator {
+
+    private final String prefix = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong sequence = new AtomicLong();
+
+    public String next() {
+        return prefix + "-" + Long.toString(sequence.incrementAndGet(), 36);
+    }
+}
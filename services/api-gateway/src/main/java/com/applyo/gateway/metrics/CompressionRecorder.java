@@ -0,0 +1,38 @@
+package com.applyo.gateway.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Compression ratio per route is gateway.compression.bytes.out / gateway.compression.bytes.in
+@Component
+@RequiredArgsConstructor
+public class CompressionRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+
+    public void record(String routeId, String encoding, long bytesIn, long bytesOut) {
+        Counter[] meters = counters.computeIfAbsent(routeId + ':' + encoding, key -> new Counter[]{
+                counter("gateway.compression.bytes.in", "Response bytes before compression", routeId, encoding),
+                counter("gateway.compression.bytes.out", "Response bytes after compression", routeId, encoding),
+                counter("gateway.compression.bytes.saved", "Response bytes saved by compression", routeId, encoding)
+        });
+        meters[0].increment(bytesIn);
+        meters[1].increment(bytesOut);
+        meters[2].increment(Math.max(0, bytesIn - bytesOut));
+    }
+
+    private Counter counter(String name, String description, String routeId, String encoding) {
+        return Counter.builder(name)
+                .description(description)
+                .baseUnit("bytes")
+                .tag("route", routeId)
+                .tag("encoding", encoding)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.applyo.gateway.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Percentiles, histogram buckets and SLO boundaries for gateway.route.latency are set under
+// management.metrics.distribution in application.yml
+@Component
+@RequiredArgsConstructor
+public class RouteLatencyRecorder {
+
+    private static final String METRIC_NAME = "gateway.route.latency";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public void record(ServerWebExchange exchange, int status, long durationNanos) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "none";
+        String statusTag = String.valueOf(status);
+
+        timers.computeIfAbsent(routeId + ':' + statusTag, key -> Timer.builder(METRIC_NAME)
+                        .description("Gateway request latency by route and response status")
+                        .tag("route", routeId)
+                        .tag("status", statusTag)
+                        .register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
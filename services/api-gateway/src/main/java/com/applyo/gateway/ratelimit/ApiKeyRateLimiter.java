@@ -0,0 +1,106 @@
+package com.applyo.gateway.ratelimit;
+
+import com.applyo.gateway.apikey.ApiKeyPolicy;
+import com.applyo.gateway.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Per-key limits are enforced on local token buckets. Each sync interval the instance publishes what it
+// consumed to a per-minute Redis counter and caps its buckets by the cluster-wide total, so the hot path
+// never waits on Redis.
+@Slf4j
+@Component
+public class ApiKeyRateLimiter {
+
+    private static final String KEY_PREFIX = "gateway:rate-limit:";
+    private static final Duration WINDOW_TTL = Duration.ofMinutes(2);
+    private static final long MAX_BUCKETS = 100_000;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .maximumSize(MAX_BUCKETS)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    private Disposable syncTask;
+
+    public ApiKeyRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                             RateLimitProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void startSync() {
+        syncTask = Flux.interval(properties.getSyncInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> syncAll())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stopSync() {
+        if (syncTask != null) {
+            syncTask.dispose();
+        }
+    }
+
+    public RateLimitDecision tryAcquire(String keyHash, ApiKeyPolicy policy) {
+        long perMinute = policy.getRateLimit() != null ? policy.getRateLimit() : properties.getDefaultRateLimit();
+        long capacity = Math.max(1, Math.round(perMinute * properties.burstMultiplier(policy.getSubscriptionTier())));
+
+        TokenBucket bucket = buckets.asMap().compute(keyHash, (hash, existing) ->
+                existing != null && existing.hasShape(capacity, perMinute)
+                        ? existing
+                        : new TokenBucket(capacity, perMinute));
+
+        long remaining = bucket.tryConsume();
+        String keyId = policy.getKeyId() != null ? policy.getKeyId() : "unknown";
+        if (remaining < 0) {
+            meterRegistry.counter("gateway.rate-limit.throttled", "key", keyId).increment();
+            return new RateLimitDecision(false, capacity, 0, Math.max(1, bucket.secondsUntilNextToken()));
+        }
+        meterRegistry.counter("gateway.rate-limit.allowed", "key", keyId).increment();
+        return new RateLimitDecision(true, capacity, remaining, 0);
+    }
+
+    private Mono<Void> syncAll() {
+        long window = System.currentTimeMillis() / 60_000;
+        return Flux.fromIterable(buckets.asMap().entrySet())
+                .flatMap(entry -> sync(entry, window), 16)
+                .then();
+    }
+
+    private Mono<Void> sync(Map.Entry<String, TokenBucket> entry, long window) {
+        long consumed = entry.getValue().drainUnsynced();
+        if (consumed == 0) {
+            return Mono.empty();
+        }
+
+        String key = KEY_PREFIX + entry.getKey() + ":" + window;
+        return redisTemplate.opsForValue().increment(key, consumed)
+                .flatMap(total -> redisTemplate.expire(key, WINDOW_TTL).thenReturn(total))
+                .doOnNext(total -> entry.getValue().applyGlobalUsage(total))
+                .onErrorResume(e -> {
+                    log.debug("Rate limit sync failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,69 @@
+package com.applyo.gateway.ratelimit;
+
+// Per-instance token bucket; consumption since the last Redis sync is tracked so it can be published
+final class TokenBucket {
+
+    private static final double NANOS_PER_MINUTE = 60_000_000_000d;
+
+    private final long capacity;
+    private final long refillPerMinute;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long unsynced;
+
+    TokenBucket(long capacity, long refillPerMinute) {
+        this.capacity = capacity;
+        this.refillPerMinute = refillPerMinute;
+        this.refillPerNano = refillPerMinute / NANOS_PER_MINUTE;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    boolean hasShape(long capacity, long refillPerMinute) {
+        return this.capacity == capacity && this.refillPerMinute == refillPerMinute;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    // Returns the tokens left after consuming one, or -1 when the bucket is empty
+    synchronized long tryConsume() {
+        refill();
+        if (tokens < 1) {
+            return -1;
+        }
+        tokens -= 1;
+        unsynced++;
+        return (long) tokens;
+    }
+
+    synchronized long secondsUntilNextToken() {
+        refill();
+        if (tokens >= 1 || refillPerNano <= 0) {
+            return 0;
+        }
+        double nanos = (1 - tokens) / refillPerNano;
+        return (long) Math.ceil(nanos / 1_000_000_000d);
+    }
+
+    synchronized long drainUnsynced() {
+        long drained = unsynced;
+        unsynced = 0;
+        return drained;
+    }
+
+    // Caps local tokens by what the cluster-wide window still allows
+    synchronized void applyGlobalUsage(long usedInWindow) {
+        refill();
+        tokens = Math.min(tokens, Math.max(capacity - usedInWindow, 0));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,147 @@
+package com.applyo.gateway.revocation;
+
+import com.applyo.gateway.config.RevocationProperties;
+import com.applyo.gateway.dto.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+// Per-user access token cutoffs replicated from auth-service with incremental "changed since" snapshots.
+// Lookups read an immutable state: a bloom filter screens out almost every user, and only bloom
+// hits consult the exact cutoff map.
+@Slf4j
+@Component
+public class RevocationList {
+
+    private static final ParameterizedTypeReference<ApiResponse<RevocationSnapshot>> SNAPSHOT_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final RevocationProperties properties;
+
+    // Only touched by the serial refresh loop
+    private final Map<String, Long> cutoffs = new HashMap<>();
+
+    private volatile State state;
+    private volatile Instant syncedAsOf;
+    private Disposable refreshTask;
+
+    private final Counter revoked;
+    private final Counter falsePositives;
+
+    public RevocationList(WebClient.Builder webClientBuilder,
+                          RevocationProperties properties,
+                          MeterRegistry meterRegistry,
+                          @Value("${AUTH_SERVICE_URL:http://localhost:8083}") String authServiceUrl) {
+        this.webClient = webClientBuilder.baseUrl(authServiceUrl).build();
+        this.properties = properties;
+        this.state = new State(BloomFilter.of(cutoffs.keySet(),
+                properties.getExpectedRevocations(), properties.getFalsePositiveRate()), Map.of());
+        this.revoked = meterRegistry.counter("gateway.revocation.checks", "result", "revoked");
+        this.falsePositives = meterRegistry.counter("gateway.revocation.checks", "result", "bloom-false-positive");
+        Gauge.builder("gateway.revocation.entries", this, list -> list.state.cutoffs.size()).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startRefresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        refreshTask = Flux.interval(Duration.ZERO, properties.getRefreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stopRefresh() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    // Revoked when the token was issued strictly before the user's millisecond cutoff; tokens without iat count as old
+    public boolean isRevoked(String userId, Instant issuedAt) {
+        State current = state;
+        if (!current.bloom.mightContain(userId)) {
+            return false;
+        }
+
+        Long cutoff = current.cutoffs.get(userId);
+        if (cutoff == null || (issuedAt != null && issuedAt.toEpochMilli() >= cutoff)) {
+            falsePositives.increment();
+            return false;
+        }
+        revoked.increment();
+        return true;
+    }
+
+    private Mono<Void> refresh() {
+        Instant since = syncedAsOf;
+        return webClient.get()
+                .uri(uri -> {
+                    uri.path("/internal/token-revocations");
+                    if (since != null) {
+                        uri.queryParam("since", since.toString());
+                    }
+                    return uri.build();
+                })
+                .retrieve()
+                .bodyToMono(SNAPSHOT_RESPONSE)
+                .doOnNext(response -> apply(response.getData()))
+                .onErrorResume(e -> {
+                    log.warn("Token revocation refresh failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void apply(RevocationSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+
+        boolean changed = false;
+        for (RevocationSnapshot.Entry entry : snapshot.getRevocations()) {
+            long notBefore = entry.getNotBefore().toEpochMilli();
+            Long previous = cutoffs.get(entry.getUserId());
+            if (previous == null || notBefore > previous) {
+                cutoffs.put(entry.getUserId(), notBefore);
+                changed = true;
+            }
+        }
+        long oldestLive = Instant.now().minus(properties.getMaxTokenLifetime()).toEpochMilli();
+        changed |= cutoffs.values().removeIf(notBefore -> notBefore < oldestLive);
+
+        if (changed) {
+            state = new State(BloomFilter.of(cutoffs.keySet(),
+                    properties.getExpectedRevocations(), properties.getFalsePositiveRate()), Map.copyOf(cutoffs));
+        }
+        if (syncedAsOf == null) {
+            log.info("Token revocation list bootstrapped with {} users", cutoffs.size());
+        }
+        syncedAsOf = snapshot.getAsOf();
+    }
+
+    @AllArgsConstructor
+    private static class State {
+        private final BloomFilter bloom;
+        private final Map<String, Long> cutoffs;
+    }
+}
@@ -0,0 +1,26 @@
+package com.applyo.gateway.revocation;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RevocationSnapshot {
+
+    private Instant asOf;
+    private List<Entry> revocations = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Entry {
+        private String userId;
+        private Instant notBefore;
+    }
+}
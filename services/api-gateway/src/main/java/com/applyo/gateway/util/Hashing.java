@@ -0,0 +1,29 @@
+package com.applyo.gateway.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public final class Hashing {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private Hashing() {
+    }
+
+    public static byte[] sha256(byte[] input) {
+        return SHA_256.get().digest(input);
+    }
+
+    // Same encoding company-service and auth-service use for stored key/token hashes
+    public static String sha256Base64(String input) {
+        return Base64.getEncoder().encodeToString(sha256(input.getBytes(StandardCharsets.UTF_8)));
+    }
+}
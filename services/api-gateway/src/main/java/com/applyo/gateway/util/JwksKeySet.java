@@ -0,0 +1,112 @@
+package com.applyo.gateway.util;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// auth-service's public signing keys by kid, refreshed from its JWKS endpoint. Verification is a map lookup;
+// an unknown kid triggers an early refresh, at most once per min-refresh-gap.
+@Slf4j
+@Component
+public class JwksKeySet {
+
+    private final WebClient webClient;
+    private final String jwksPath;
+    private final Duration refreshInterval;
+    private final long minRefreshGapNanos;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private final AtomicLong lastRefreshNanos = new AtomicLong(System.nanoTime());
+    private Disposable refreshTask;
+
+    public JwksKeySet(WebClient.Builder webClientBuilder,
+                      MeterRegistry meterRegistry,
+                      @Value("${AUTH_SERVICE_URL:http://localhost:8083}") String authServiceUrl,
+                      @Value("${jwt.jwks.path:/.well-known/jwks.json}") String jwksPath,
+                      @Value("${jwt.jwks.refresh-interval:1m}") Duration refreshInterval,
+                      @Value("${jwt.jwks.min-refresh-gap:5s}") Duration minRefreshGap) {
+        this.webClient = webClientBuilder.baseUrl(authServiceUrl).build();
+        this.jwksPath = jwksPath;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshGapNanos = minRefreshGap.toNanos();
+        Gauge.builder("gateway.jwks.keys", this, set -> set.keys.size()).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startRefresh() {
+        refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stopRefresh() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    public PublicKey get(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            refreshEarly();
+        }
+        return key;
+    }
+
+    private void refreshEarly() {
+        long last = lastRefreshNanos.get();
+        long now = System.nanoTime();
+        if (now - last >= minRefreshGapNanos && lastRefreshNanos.compareAndSet(last, now)) {
+            refresh().subscribe();
+        }
+    }
+
+    private Mono<Void> refresh() {
+        return webClient.get()
+                .uri(jwksPath)
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnNext(this::apply)
+                .onErrorResume(e -> {
+                    log.warn("JWKS refresh failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void apply(String json) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet) {
+            Key key = jwk.toKey();
+            if (jwk.getId() != null && key instanceof PublicKey publicKey) {
+                parsed.put(jwk.getId(), publicKey);
+            }
+        }
+        if (!parsed.keySet().equals(keys.keySet())) {
+            log.info("JWKS updated: {} signing keys {}", parsed.size(), parsed.keySet());
+        }
+        keys = Map.copyOf(parsed);
+        lastRefreshNanos.set(System.nanoTime());
+    }
+}
@@ -0,0 +1,18 @@
+package com.applyo.gateway.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public final class JwtPrincipal {
+
+    private final String userId;
+    private final String userType;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+}
@@ -1,52 +1,70 @@
 package com.applyo.gateway.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.util.Date;
+import java.security.Key;
+import java.time.Instant;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final JwksKeySet jwksKeySet;
 
-    private SecretKey getSigningKey() {
-        // Decode base64 secret - must match auth-service encoding
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Parser is immutable and thread-safe, so build it once; keys are resolved per token by kid
+    private JwtParser jwtParser;
+
+    public JwtUtil(JwksKeySet jwksKeySet) {
+        this.jwksKeySet = jwksKeySet;
+    }
+
+    @PostConstruct
+    void init() {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String kid = header.getKeyId();
+                        return kid != null ? jwksKeySet.get(kid) : null;
+                    }
+                })
+                .build();
     }
 
-    public boolean validateToken(String token) {
+    // Single parse + signature check; empty for expired, malformed or badly signed tokens
+    public Optional<JwtPrincipal> verify(String token) {
         try {
             Claims claims = extractAllClaims(token);
-            return !claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            log.error("JWT validation failed: {}", e.getMessage(), e);
-            return false;
+            return Optional.of(new JwtPrincipal(
+                    claims.getSubject(),
+                    claims.get("userType", String.class),
+                    issuedAt(claims),
+                    claims.getExpiration().toInstant()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT validation failed: {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
-    public String extractUserId(String token) {
-        return extractAllClaims(token).getSubject();
-    }
-
-    public String extractUserType(String token) {
-        return extractAllClaims(token).get("userType", String.class);
+    // Prefer the millisecond iatMs claim; tokens minted before it was added fall back to iat
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get("iatMs", Long.class);
+        if (issuedAtMillis != null) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,127 @@
+package com.applyo.gateway.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Immutable segment trie for classifying request paths; lookups walk the raw path in place without allocating
+public final class PathTrie {
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private final Node root;
+
+    private PathTrie(Node root) {
+        this.root = root;
+    }
+
+    public static PathTrie compile(List<String> patterns) {
+        Builder root = new Builder();
+        for (String pattern : patterns) {
+            Builder node = root;
+            for (String segment : pattern.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (MULTI_WILDCARD.equals(segment)) {
+                    node.matchesDescendants = true;
+                    node = null;
+                    break;
+                }
+                node = SINGLE_WILDCARD.equals(segment)
+                        ? node.wildcard()
+                        : node.children.computeIfAbsent(segment, s -> new Builder());
+            }
+            if (node != null) {
+                node.terminal = true;
+            }
+        }
+        return new PathTrie(root.freeze());
+    }
+
+    public boolean matches(String path) {
+        return match(root, path, nextSegmentStart(path, 0));
+    }
+
+    private static boolean match(Node node, String path, int start) {
+        if (node.matchesDescendants) {
+            return true;
+        }
+        if (start == path.length()) {
+            return node.terminal;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int length = end - start;
+        int next = nextSegmentStart(path, end);
+
+        String[] segments = node.segments;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.length() == length
+                    && path.regionMatches(start, segment, 0, length)
+                    && match(node.children[i], path, next)) {
+                return true;
+            }
+        }
+        return node.wildcard != null && match(node.wildcard, path, next);
+    }
+
+    // Skips repeated and trailing slashes so "/a//b/" classifies like "/a/b"
+    private static int nextSegmentStart(String path, int index) {
+        while (index < path.length() && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    private static final class Node {
+        private final String[] segments;
+        private final Node[] children;
+        private final Node wildcard;
+        private final boolean terminal;
+        private final boolean matchesDescendants;
+
+        private Node(String[] segments, Node[] children, Node wildcard,
+                     boolean terminal, boolean matchesDescendants) {
+            this.segments = segments;
+            this.children = children;
+            this.wildcard = wildcard;
+            this.terminal = terminal;
+            this.matchesDescendants = matchesDescendants;
+        }
+    }
+
+    private static final class Builder {
+        private final Map<String, Builder> children = new LinkedHashMap<>();
+        private Builder wildcard;
+        private boolean terminal;
+        private boolean matchesDescendants;
+
+        private Builder wildcard() {
+            if (wildcard == null) {
+                wildcard = new Builder();
+            }
+            return wildcard;
+        }
+
+        private Node freeze() {
+            List<String> segments = new ArrayList<>(children.keySet());
+            Node[] frozen = new Node[segments.size()];
+            for (int i = 0; i < frozen.length; i++) {
+                frozen[i] = children.get(segments.get(i)).freeze();
+            }
+            return new Node(
+                    segments.toArray(String[]::new),
+                    frozen,
+                    wildcard != null ? wildcard.freeze() : null,
+                    terminal,
+                    matchesDescendants);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.applyo.application.security;
+
+import com.applyo.application.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Verifies the gateway's X-Identity envelope (base64url payload "." base64url HMAC-SHA256) and exposes it
+// as the GatewayIdentity request attribute. The X-User-* and X-Company-Id headers controllers read are
+// replaced with the signed values, and when the envelope is required any of them is refused without one.
+@Slf4j
+@Component
+public class GatewayIdentityFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Identity";
+
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final String USER_TYPE_HEADER = "X-User-Type";
+    private static final String COMPANY_ID_HEADER = "X-Company-Id";
+
+    private final ObjectMapper objectMapper;
+    private final boolean required;
+    private final ThreadLocal<Mac> mac;
+
+    public GatewayIdentityFilter(@Value("${gateway.identity.secret}") String secret,
+                                 @Value("${gateway.identity.required:true}") boolean required,
+                                 ObjectMapper objectMapper) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("gateway.identity.secret (IDENTITY_SECRET) must be set; generate one with: openssl rand -base64 32");
+        }
+        this.objectMapper = objectMapper;
+        this.required = required;
+        SecretKeySpec key = new SecretKeySpec(Base64.getDecoder().decode(secret), "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance("HmacSHA256");
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String envelope = request.getHeader(HEADER);
+        if (envelope == null) {
+            if (required && hasIdentityHeader(request)) {
+                log.warn("Rejected unsigned identity headers for {}", request.getRequestURI());
+                reject(response, "Missing identity envelope");
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Optional<GatewayIdentity> identity = decode(envelope);
+        if (identity.isEmpty()) {
+            log.warn("Rejected invalid or expired identity envelope for {}", request.getRequestURI());
+            reject(response, "Invalid identity envelope");
+            return;
+        }
+        request.setAttribute(GatewayIdentity.REQUEST_ATTRIBUTE, identity.get());
+        chain.doFilter(new SignedIdentityRequest(request, identity.get()), response);
+    }
+
+    private static boolean hasIdentityHeader(HttpServletRequest request) {
+        return request.getHeader(USER_ID_HEADER) != null
+                || request.getHeader(USER_TYPE_HEADER) != null
+                || request.getHeader(COMPANY_ID_HEADER) != null;
+    }
+
+    private void reject(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(401, message));
+    }
+
+    private Optional<GatewayIdentity> decode(String envelope) {
+        int dot = envelope.lastIndexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        try {
+            String payload = envelope.substring(0, dot);
+            byte[] expected = mac.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            byte[] actual = Base64.getUrlDecoder().decode(envelope.substring(dot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return Optional.empty();
+            }
+
+            GatewayIdentity identity = objectMapper.readValue(Base64.getUrlDecoder().decode(payload), GatewayIdentity.class);
+            return identity.getExpiresAt() > Instant.now().getEpochSecond() ? Optional.of(identity) : Optional.empty();
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Serves identity headers from the verified envelope so a client-supplied value can never win
+    private static class SignedIdentityRequest extends HttpServletRequestWrapper {
+
+        private final Map<String, String> identityHeaders;
+
+        SignedIdentityRequest(HttpServletRequest request, GatewayIdentity identity) {
+            super(request);
+            Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            headers.put(USER_ID_HEADER, identity.getUserId());
+            headers.put(USER_TYPE_HEADER, identity.getUserType());
+            headers.put(COMPANY_ID_HEADER, identity.getCompanyId());
+            this.identityHeaders = headers;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return identityHeaders.containsKey(name) ? identityHeaders.get(name) : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (!identityHeaders.containsKey(name)) {
+                return super.getHeaders(name);
+            }
+            String value = identityHeaders.get(name);
+            return value != null ? Collections.enumeration(Set.of(value)) : Collections.emptyEnumeration();
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            Set<String> names = new LinkedHashSet<>(Collections.list(super.getHeaderNames()));
+            names.removeIf(identityHeaders::containsKey);
+            identityHeaders.forEach((name, value) -> {
+                if (value != null) {
+                    names.add(name);
+                }
+            });
+            return Collections.enumeration(names);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.applyo.auth.controller;
 
 import com.applyo.auth.dto.*;
+import com.applyo.auth.security.LoginThrottle;
 import com.applyo.auth.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,19 +19,23 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse<AuthResponse>> signup(
-            @Valid @RequestBody SignupRequest request) {
-        AuthResponse response = authService.signup(request);
+            @Valid @RequestBody SignupRequest request,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent) {
+        AuthResponse response = authService.signup(request, userAgent);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response));
     }
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponse>> login(
-            @Valid @RequestBody LoginRequest request) {
-        AuthResponse response = authService.login(request);
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        AuthResponse response = authService.login(request,
+                loginThrottle.resolveClientIp(httpRequest), httpRequest.getHeader(HttpHeaders.USER_AGENT));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -41,8 +48,9 @@ public class AuthController {
 
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(
-            @RequestHeader("X-User-Id") String userId) {
-        authService.logout(userId);
+            @RequestHeader("X-User-Id") String userId,
+            @RequestBody(required = false) LogoutRequest request) {
+        authService.logout(userId, request);
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
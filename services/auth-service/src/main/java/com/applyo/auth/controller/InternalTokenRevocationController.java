@@ -0,0 +1,27 @@
+package com.applyo.auth.controller;
+
+import com.applyo.auth.dto.ApiResponse;
+import com.applyo.auth.dto.TokenRevocationSnapshotResponse;
+import com.applyo.auth.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+// Service-to-service endpoints for the API gateway; not exposed through gateway routes
+@RestController
+@RequestMapping("/internal/token-revocations")
+@RequiredArgsConstructor
+public class InternalTokenRevocationController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<TokenRevocationSnapshotResponse>> getRevocations(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since) {
+        TokenRevocationSnapshotResponse response = tokenRevocationService.getRevocations(since);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,27 @@
+package com.applyo.auth.controller;
+
+import com.applyo.auth.dto.ApiResponse;
+import com.applyo.auth.dto.BulkProvisionResponse;
+import com.applyo.auth.dto.BulkSignupRequest;
+import com.applyo.auth.service.UserProvisioningService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Service-to-service endpoints; not exposed through gateway routes
+@RestController
+@RequestMapping("/internal/users")
+@RequiredArgsConstructor
+public class InternalUserController {
+
+    private final UserProvisioningService userProvisioningService;
+
+    // Always 200 with a result per row; callers retry only the FAILED rows
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkProvisionResponse>> provisionUsers(
+            @Valid @RequestBody BulkSignupRequest request) {
+        BulkProvisionResponse response = userProvisioningService.provision(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,26 @@
+package com.applyo.auth.controller;
+
+import com.applyo.auth.security.SigningKeyStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Standard RFC 7517 key set, deliberately not wrapped in ApiResponse so stock JWT libraries can consume it
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final SigningKeyStore signingKeyStore;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(1)))
+                .body(signingKeyStore.current().getJwks());
+    }
+}
@@ -0,0 +1,23 @@
+package com.applyo.auth.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSignupRequest {
+
+    // Rows are validated one by one so a bad row is reported instead of failing the batch. Every row costs
+    // a bcrypt hash, so batches are kept small enough to finish well inside a request timeout.
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = 200, message = "At most 200 users per batch")
+    private List<SignupRequest> users;
+}
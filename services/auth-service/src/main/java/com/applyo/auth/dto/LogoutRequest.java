@@ -0,0 +1,16 @@
+package com.applyo.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequest {
+
+    // Ends only this device's session when present; otherwise every session of the user
+    private String refreshToken;
+}
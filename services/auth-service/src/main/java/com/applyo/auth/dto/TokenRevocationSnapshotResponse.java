@@ -0,0 +1,31 @@
+package com.applyo.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationSnapshotResponse {
+
+    private Instant asOf;
+
+    @Builder.Default
+    private List<Entry> revocations = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String userId;
+        private Instant notBefore;
+    }
+}
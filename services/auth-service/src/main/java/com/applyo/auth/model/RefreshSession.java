@@ -0,0 +1,41 @@
+package com.applyo.auth.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+// One document per issued refresh token, keyed by its SHA-256 hash. Rotation marks the old session
+// instead of deleting it so a replayed token can be recognised and its whole family revoked;
+// Mongo removes sessions once the token they describe has expired.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "refresh_sessions")
+public class RefreshSession {
+
+    @Id
+    private String tokenHash;
+
+    @Indexed
+    private String userId;
+
+    // Shared by every token rotated from the same login
+    @Indexed
+    private String familyId;
+
+    private String userAgent;
+
+    private Instant createdAt;
+
+    private Instant rotatedAt;
+
+    @Indexed(expireAfterSeconds = 0)
+    private Instant expiresAt;
+}
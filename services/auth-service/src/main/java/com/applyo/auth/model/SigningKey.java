@@ -0,0 +1,36 @@
+package com.applyo.auth.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+// Token signing key pair. A key is published in the JWKS as soon as it is stored, signs between
+// activatesAt and retiresAt, and stays published until every token it signed has expired.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "signing_keys")
+public class SigningKey {
+
+    @Id
+    private String kid;
+
+    private String algorithm;
+    private String publicKey;         // base64 X.509
+    private String sealedPrivateKey;  // PKCS#8 sealed by SigningKeyCipher
+    private String privateKey;        // plaintext base64 PKCS#8 from before sealing; cleared on reload
+
+    private Instant createdAt;
+    private Instant activatesAt;
+    private Instant retiresAt;
+
+    @Indexed(expireAfterSeconds = 0)
+    private Instant expiresAt;
+}
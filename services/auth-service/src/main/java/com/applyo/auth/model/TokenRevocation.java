@@ -0,0 +1,32 @@
+package com.applyo.auth.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+// Access tokens for the user issued before notBefore (millisecond precision) are revoked. One document per user;
+// it expires once every token it covers has expired on its own.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "token_revocations")
+public class TokenRevocation {
+
+    @Id
+    private String userId;
+
+    private Instant notBefore;
+
+    @Indexed
+    private Instant updatedAt;
+
+    @Indexed(expireAfterSeconds = 0)
+    private Instant expiresAt;
+}
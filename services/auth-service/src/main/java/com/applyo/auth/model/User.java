@@ -37,7 +37,6 @@ public class User {
     @Builder.Default
     private Boolean active = true;
 
-    private String refreshTokenHash;
     private Instant lastLoginAt;
 
     @CreatedDate
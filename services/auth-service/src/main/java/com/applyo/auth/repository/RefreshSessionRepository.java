@@ -0,0 +1,13 @@
+package com.applyo.auth.repository;
+
+import com.applyo.auth.model.RefreshSession;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RefreshSessionRepository extends MongoRepository<RefreshSession, String>, RefreshSessionRepositoryCustom {
+
+    long deleteByUserId(String userId);
+
+    long deleteByFamilyId(String familyId);
+}
@@ -0,0 +1,11 @@
+package com.applyo.auth.repository;
+
+import com.applyo.auth.model.RefreshSession;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshSessionRepositoryCustom {
+
+    Optional<RefreshSession> claim(String tokenHash, Instant rotatedAt);
+}
@@ -0,0 +1,26 @@
+package com.applyo.auth.repository;
+
+import com.applyo.auth.model.RefreshSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class RefreshSessionRepositoryImpl implements RefreshSessionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    // Compare-and-set on an unrotated session: of two concurrent refreshes with the same token only one
+    // gets the session back
+    @Override
+    public Optional<RefreshSession> claim(String tokenHash, Instant rotatedAt) {
+        Query query = new Query(Criteria.where("_id").is(tokenHash).and("rotatedAt").is(null));
+        return Optional.ofNullable(mongoTemplate.findAndModify(query,
+                new Update().set("rotatedAt", rotatedAt), RefreshSession.class));
+    }
+}
@@ -0,0 +1,14 @@
+package com.applyo.auth.repository;
+
+import com.applyo.auth.model.SigningKey;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends MongoRepository<SigningKey, String> {
+
+    List<SigningKey> findByExpiresAtAfter(Instant now);
+}
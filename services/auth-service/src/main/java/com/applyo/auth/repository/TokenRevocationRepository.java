@@ -0,0 +1,16 @@
+package com.applyo.auth.repository;
+
+import com.applyo.auth.model.TokenRevocation;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends MongoRepository<TokenRevocation, String> {
+
+    List<TokenRevocation> findByExpiresAtAfter(Instant now);
+
+    List<TokenRevocation> findByUpdatedAtAfter(Instant since);
+}
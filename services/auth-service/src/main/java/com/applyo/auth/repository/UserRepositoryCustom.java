@@ -0,0 +1,16 @@
+package com.applyo.auth.repository;
+
+import com.applyo.auth.model.User;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+
+    void recordLogin(String userId, Instant lastLoginAt, String rehashedPassword);
+
+    void updatePassword(String userId, String passwordHash);
+
+    Map<Integer, Integer> insertUnordered(List<User> users);
+}
@@ -0,0 +1,60 @@
+package com.applyo.auth.repository;
+
+import com.applyo.auth.model.User;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Targeted $set updates so the login and password flows write only the fields they change
+// in a single round trip instead of rewriting the whole document with save()
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void recordLogin(String userId, Instant lastLoginAt, String rehashedPassword) {
+        Update update = new Update()
+                .set("lastLoginAt", lastLoginAt)
+                .set("updatedAt", lastLoginAt);
+        if (rehashedPassword != null) {
+            update.set("passwordHash", rehashedPassword);
+        }
+        mongoTemplate.updateFirst(byId(userId), update, User.class);
+    }
+
+    @Override
+    public void updatePassword(String userId, String passwordHash) {
+        Update update = new Update()
+                .set("passwordHash", passwordHash)
+                .set("updatedAt", Instant.now());
+        mongoTemplate.updateFirst(byId(userId), update, User.class);
+    }
+
+    // One unordered bulkWrite; rows rejected by the server (e.g. 11000 on the unique email index) don't stop
+    // the rest. Returns the Mongo error code per failed index.
+    @Override
+    public Map<Integer, Integer> insertUnordered(List<User> users) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class).insert(users).execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getCode));
+        }
+    }
+
+    private static Query byId(String userId) {
+        return new Query(Criteria.where("_id").is(userId));
+    }
+}
@@ -0,0 +1,40 @@
+package com.applyo.auth.security;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Caller identity minted and signed by the api-gateway, see GatewayIdentityFilter
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GatewayIdentity {
+
+    public static final String REQUEST_ATTRIBUTE = "gatewayIdentity";
+
+    @JsonProperty("sub")
+    private String userId;
+
+    @JsonProperty("typ")
+    private String userType;
+
+    @JsonProperty("cid")
+    private String companyId;
+
+    @JsonProperty("kid")
+    private String apiKeyId;
+
+    @JsonProperty("scp")
+    private List<String> scopes = new ArrayList<>();
+
+    @JsonProperty("exp")
+    private long expiresAt;
+
+    public boolean hasScope(String scope) {
+        return scopes.contains(scope);
+    }
+}
@@ -1,23 +1,22 @@
 package com.applyo.auth.security;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final SigningKeyStore signingKeyStore;
 
     @Value("${jwt.access-token-expiration-ms}")
     private long accessTokenExpirationMs;
@@ -25,57 +24,73 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration-ms}")
     private long refreshTokenExpirationMs;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private JwtParser jwtParser;
+
+    public JwtTokenProvider(SigningKeyStore signingKeyStore) {
+        this.signingKeyStore = signingKeyStore;
+    }
+
+    @PostConstruct
+    void init() {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String kid = header.getKeyId();
+                        return kid != null ? signingKeyStore.current().getVerificationKeys().get(kid) : null;
+                    }
+                })
+                .build();
     }
 
     public String generateAccessToken(String userId, String email, String userType) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("email", email);
         claims.put("userType", userType);
+        // iat only has second precision; the gateway compares this against millisecond revocation cutoffs
+        long now = System.currentTimeMillis();
+        claims.put("iatMs", now);
 
+        SigningKeyStore.KeySet keySet = signingKeyStore.current();
         return Jwts.builder()
+                .header().keyId(keySet.getSigningKid()).and()
                 .claims(claims)
                 .subject(userId)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + accessTokenExpirationMs))
-                .signWith(getSigningKey())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + accessTokenExpirationMs))
+                .signWith(keySet.getSigningKey(), keySet.getSignatureAlgorithm())
                 .compact();
     }
 
     public String generateRefreshToken(String userId) {
+        SigningKeyStore.KeySet keySet = signingKeyStore.current();
         return Jwts.builder()
+                .header().keyId(keySet.getSigningKid()).and()
                 .subject(userId)
+                // Unique per issue so rotation within the same second still yields a new hash
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(keySet.getSigningKey(), keySet.getSignatureAlgorithm())
                 .compact();
     }
 
     public String getUserIdFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
 
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token: {}", ex.getMessage());
@@ -83,6 +98,8 @@ public class JwtTokenProvider {
             log.error("Expired JWT token: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token: {}", ex.getMessage());
+        } catch (JwtException ex) {
+            log.error("JWT signature verification failed: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty: {}", ex.getMessage());
         }
@@ -92,4 +109,8 @@ public class JwtTokenProvider {
     public long getAccessTokenExpirationMs() {
         return accessTokenExpirationMs;
     }
+
+    public long getRefreshTokenExpirationMs() {
+        return refreshTokenExpirationMs;
+    }
 }
@@ -0,0 +1,235 @@
+package com.applyo.auth.security;
+
+import com.applyo.auth.exception.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Sliding-window login failure counters per email and per client IP. Once a key crosses its threshold it is
+// locked out and login attempts are rejected before the user lookup and the bcrypt compare.
+// Counters live in a ConcurrentHashMap (lock-striped per bin); with redis-mirror enabled, failures and
+// lockouts are also shared through Redis so every auth-service replica enforces them.
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final String REDIS_PREFIX = "auth:login-throttle:";
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final long lockoutMillis;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+    private final int trustedProxies;
+    private final StringRedisTemplate redis;
+
+    private final Map<String, FailureWindow> windows = new ConcurrentHashMap<>();
+
+    private final Counter failures;
+    private final Counter emailRejections;
+    private final Counter ipRejections;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         ObjectProvider<StringRedisTemplate> redisTemplate,
+                         @Value("${auth.login-throttle.enabled:true}") boolean enabled,
+                         @Value("${auth.login-throttle.window:15m}") Duration window,
+                         @Value("${auth.login-throttle.lockout:15m}") Duration lockout,
+                         @Value("${auth.login-throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                         @Value("${auth.login-throttle.max-failures-per-ip:50}") int maxFailuresPerIp,
+                         @Value("${auth.login-throttle.trusted-proxies:2}") int trustedProxies,
+                         @Value("${auth.login-throttle.redis-mirror.enabled:false}") boolean redisMirror) {
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.lockoutMillis = lockout.toMillis();
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.trustedProxies = trustedProxies;
+        this.redis = redisMirror ? redisTemplate.getIfAvailable() : null;
+
+        this.failures = meterRegistry.counter("auth.login.failures");
+        this.emailRejections = meterRegistry.counter("auth.login.throttled", "scope", "email");
+        this.ipRejections = meterRegistry.counter("auth.login.throttled", "scope", "ip");
+        Gauge.builder("auth.login.throttle.tracked", windows, Map::size).register(meterRegistry);
+    }
+
+    public void checkAllowed(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long emailWait = lockedFor(emailKey(email), now);
+        if (emailWait > 0) {
+            emailRejections.increment();
+            throw new LoginThrottledException("Too many failed login attempts, try again later", toSeconds(emailWait));
+        }
+        long ipWait = lockedFor(ipKey(clientIp), now);
+        if (ipWait > 0) {
+            ipRejections.increment();
+            throw new LoginThrottledException("Too many failed login attempts, try again later", toSeconds(ipWait));
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        failures.increment();
+        long now = System.currentTimeMillis();
+        record(emailKey(email), maxFailuresPerEmail, now);
+        record(ipKey(clientIp), maxFailuresPerIp, now);
+    }
+
+    // A successful login clears the email's history; the IP keeps counting so one valid account
+    // can't be used to reset a credential-stuffing run
+    public void recordSuccess(String email) {
+        if (!enabled) {
+            return;
+        }
+        String key = emailKey(email);
+        windows.remove(key);
+        if (redis != null) {
+            try {
+                redis.delete(REDIS_PREFIX + "lock:" + key);
+            } catch (RuntimeException e) {
+                log.warn("Login throttle Redis mirror unavailable: {}", e.getMessage());
+            }
+        }
+    }
+
+    // X-Forwarded-For is appended to by each proxy, so the client is the entry trusted-proxies from the right
+    public String resolveClientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (!StringUtils.hasText(forwardedFor)) {
+            return request.getRemoteAddr();
+        }
+        String[] hops = StringUtils.tokenizeToStringArray(forwardedFor, ",");
+        return hops.length == 0 ? request.getRemoteAddr() : hops[Math.max(0, hops.length - trustedProxies)];
+    }
+
+    @Scheduled(fixedDelayString = "${auth.login-throttle.sweep-interval:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        windows.values().removeIf(window -> window.isIdle(now, windowMillis));
+    }
+
+    private long lockedFor(String key, long now) {
+        FailureWindow window = windows.get(key);
+        long wait = window != null ? window.lockedFor(now) : 0;
+        if (wait > 0 || redis == null) {
+            return wait;
+        }
+        try {
+            Long ttl = redis.getExpire(REDIS_PREFIX + "lock:" + key);
+            return ttl != null && ttl > 0 ? ttl * 1000 : 0;
+        } catch (RuntimeException e) {
+            log.warn("Login throttle Redis mirror unavailable: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void record(String key, int maxFailures, long now) {
+        FailureWindow window = windows.computeIfAbsent(key, k -> new FailureWindow(now, windowMillis));
+        double estimate = window.recordFailure(now, windowMillis);
+        if (redis != null) {
+            estimate = Math.max(estimate, mirrorFailure(key, now));
+        }
+        if (estimate >= maxFailures) {
+            window.lockUntil(now + lockoutMillis);
+            if (redis != null) {
+                mirrorLock(key);
+            }
+            log.warn("Login locked out for {} after {} failures", key, (long) estimate);
+        }
+    }
+
+    // Same sliding-window estimate as FailureWindow, over per-window Redis counters shared by all replicas
+    private double mirrorFailure(String key, long now) {
+        try {
+            long bucket = now / windowMillis;
+            String current = REDIS_PREFIX + key + ':' + bucket;
+            Long count = redis.opsForValue().increment(current);
+            redis.expire(current, Duration.ofMillis(windowMillis * 2));
+            String previous = redis.opsForValue().get(REDIS_PREFIX + key + ':' + (bucket - 1));
+            double elapsed = (double) (now % windowMillis) / windowMillis;
+            return (previous != null ? Long.parseLong(previous) * (1 - elapsed) : 0) + (count != null ? count : 0);
+        } catch (RuntimeException e) {
+            log.warn("Login throttle Redis mirror unavailable: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void mirrorLock(String key) {
+        try {
+            redis.opsForValue().set(REDIS_PREFIX + "lock:" + key, "1", Duration.ofMillis(lockoutMillis));
+        } catch (RuntimeException e) {
+            log.warn("Login throttle Redis mirror unavailable: {}", e.getMessage());
+        }
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    // Two fixed windows blended by elapsed time: previous * (1 - elapsed fraction) + current
+    private static final class FailureWindow {
+
+        private long windowStart;
+        private int previous;
+        private int current;
+        private long lockedUntil;
+
+        FailureWindow(long now, long windowMillis) {
+            this.windowStart = now - now % windowMillis;
+        }
+
+        synchronized double recordFailure(long now, long windowMillis) {
+            roll(now, windowMillis);
+            current++;
+            double elapsed = (double) (now - windowStart) / windowMillis;
+            return previous * (1 - elapsed) + current;
+        }
+
+        synchronized void lockUntil(long until) {
+            lockedUntil = Math.max(lockedUntil, until);
+        }
+
+        synchronized long lockedFor(long now) {
+            return Math.max(0, lockedUntil - now);
+        }
+
+        synchronized boolean isIdle(long now, long windowMillis) {
+            return lockedUntil <= now && now - windowStart >= 2 * windowMillis;
+        }
+
+        private void roll(long now, long windowMillis) {
+            long start = now - now % windowMillis;
+            if (start == windowStart) {
+                return;
+            }
+            previous = start - windowStart == windowMillis ? current : 0;
+            current = 0;
+            windowStart = start;
+        }
+    }
+}
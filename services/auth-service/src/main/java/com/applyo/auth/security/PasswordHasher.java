@@ -0,0 +1,201 @@
+package com.applyo.auth.security;
+
+import com.applyo.auth.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt on a small dedicated pool with a bounded queue. A login storm fills the queue and gets
+// PasswordHashingBusyException (429) instead of pinning every Tomcat thread, so refresh and other
+// endpoints keep working. The cost is pinned by config, or else calibrated at startup to the target
+// latency on this hardware.
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    @Getter
+    private final int strength;
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${auth.password-hashing.strength:0}") int pinnedStrength,
+                          @Value("${auth.password-hashing.target-latency:250ms}") Duration targetLatency,
+                          @Value("${auth.password-hashing.min-strength:10}") int minStrength,
+                          @Value("${auth.password-hashing.max-strength:14}") int maxStrength,
+                          @Value("${auth.password-hashing.threads:0}") int threads,
+                          @Value("${auth.password-hashing.queue-capacity:32}") int queueCapacity,
+                          @Value("${auth.password-hashing.wait-timeout:5s}") Duration waitTimeout) {
+        this.strength = pinnedStrength > 0 ? pinnedStrength : calibrate(targetLatency, minStrength, maxStrength);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.waitTimeout = waitTimeout;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.password.hashing")
+                .description("BCrypt time including queueing")
+                .tag("operation", "hash")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.password.hashing")
+                .description("BCrypt time including queueing")
+                .tag("operation", "verify")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("auth.password.hashing.rejected");
+        Gauge.builder("auth.password.hashing.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("auth.password.hashing.strength", this, PasswordHasher::getStrength).register(meterRegistry);
+
+        log.info("Password hashing: bcrypt cost {}, {} threads, queue {}", strength, poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public String hash(String rawPassword) {
+        return run(hashTimer, () -> encoder.encode(rawPassword));
+    }
+
+    // Batch hashing for imports: one chunk of pool-size rows is in flight at a time, so the batch runs at
+    // full parallelism without holding more queue slots than interactive logins can wait behind.
+    // Rows that could not be hashed come back null.
+    public List<String> hashAll(List<String> rawPasswords) {
+        int chunkSize = executor.getMaximumPoolSize();
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += chunkSize) {
+            List<String> chunk = rawPasswords.subList(from, Math.min(from + chunkSize, rawPasswords.size()));
+            long start = System.nanoTime();
+            List<Future<String>> futures = new ArrayList<>(chunk.size());
+            for (String rawPassword : chunk) {
+                try {
+                    futures.add(executor.submit(() -> encoder.encode(rawPassword)));
+                } catch (RejectedExecutionException e) {
+                    rejected.increment();
+                    futures.add(null);
+                }
+            }
+            for (Future<String> future : futures) {
+                hashes.add(future != null ? await(future, start) : null);
+            }
+        }
+        return hashes;
+    }
+
+    private String await(Future<String> future, long start) {
+        long remaining = waitTimeout.toNanos() - (System.nanoTime() - start);
+        try {
+            return future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } finally {
+            hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(verifyTimer, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    // Only upgrades: a replica that calibrated lower (slower box, noisy boot) never weakens existing hashes
+    public boolean needsRehash(String encodedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Too many concurrent sign-in attempts, please retry shortly");
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException("Password check timed out, please retry shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Highest cost whose measured encode time stays within the target; each step doubles the work
+    private static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        int cost = minStrength;
+        new BCryptPasswordEncoder(cost).encode("calibration"); // warm up the JIT
+        long elapsed = time(cost);
+        while (cost < maxStrength && elapsed * 2 <= targetLatency.toNanos()) {
+            cost++;
+            elapsed = time(cost);
+        }
+        log.info("Calibrated bcrypt cost {} ({} ms per hash, target {} ms)",
+                cost, TimeUnit.NANOSECONDS.toMillis(elapsed), targetLatency.toMillis());
+        return cost;
+    }
+
+    private static long time(int cost) {
+        BCryptPasswordEncoder candidate = new BCryptPasswordEncoder(cost);
+        long start = System.nanoTime();
+        candidate.encode("calibration");
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,67 @@
+package com.applyo.auth.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+// Seals signing private keys with AES-256-GCM under a master key that only lives in the service's
+// environment, so a read of the signing_keys collection does not yield usable keys. The kid is bound
+// as associated data, which stops a sealed key from being swapped onto another row.
+@Component
+public class SigningKeyCipher {
+
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec masterKey;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public SigningKeyCipher(@Value("${jwt.signing.key-encryption-key:}") String keyEncryptionKey) {
+        if (!StringUtils.hasText(keyEncryptionKey)) {
+            throw new IllegalStateException(
+                    "jwt.signing.key-encryption-key (SIGNING_KEY_ENCRYPTION_KEY) must be set; generate one with: openssl rand -base64 32");
+        }
+        byte[] key = Base64.getDecoder().decode(keyEncryptionKey);
+        if (key.length != 32) {
+            throw new IllegalStateException("jwt.signing.key-encryption-key must decode to 32 bytes");
+        }
+        this.masterKey = new SecretKeySpec(key, "AES");
+    }
+
+    // base64(iv || ciphertext+tag)
+    public String seal(String kid, byte[] privateKey) {
+        byte[] iv = new byte[IV_BYTES];
+        secureRandom.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, masterKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(privateKey);
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + sealed.length)
+                    .put(iv).put(sealed).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to seal signing key " + kid, e);
+        }
+    }
+
+    public byte[] open(String kid, String sealedKey) {
+        byte[] sealed = Base64.getDecoder().decode(sealedKey);
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, masterKey, new GCMParameterSpec(TAG_BITS, sealed, 0, IV_BYTES));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            return cipher.doFinal(sealed, IV_BYTES, sealed.length - IV_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot open signing key " + kid + "; wrong key-encryption-key?", e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.applyo.auth.security;
+
+import com.applyo.auth.model.SigningKey;
+import com.applyo.auth.repository.SigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Key pairs live in Mongo, private halves sealed by SigningKeyCipher, so every auth-service replica signs with the same key. Each replica reloads
+// them periodically; the next key is stored publish-ahead before it activates so gateways have fetched
+// it from the JWKS by the time the first token signed with it arrives.
+@Slf4j
+@Component
+public class SigningKeyStore {
+
+    private final SigningKeyRepository signingKeyRepository;
+    private final SigningKeyCipher signingKeyCipher;
+    private final String algorithm;
+    private final Duration rotationInterval;
+    private final Duration publishAhead;
+    private final Duration verificationGrace;
+
+    private volatile KeySet keySet;
+
+    public SigningKeyStore(SigningKeyRepository signingKeyRepository,
+                           SigningKeyCipher signingKeyCipher,
+                           @Value("${jwt.signing.algorithm:EdDSA}") String algorithm,
+                           @Value("${jwt.signing.rotation-interval:30d}") Duration rotationInterval,
+                           @Value("${jwt.signing.publish-ahead:5m}") Duration publishAhead,
+                           @Value("${jwt.refresh-token-expiration-ms}") long refreshTokenExpirationMs) {
+        if (!algorithm.equals("EdDSA") && !algorithm.equals("ES256")) {
+            throw new IllegalArgumentException("Unsupported jwt.signing.algorithm: " + algorithm);
+        }
+        this.signingKeyRepository = signingKeyRepository;
+        this.signingKeyCipher = signingKeyCipher;
+        this.algorithm = algorithm;
+        this.rotationInterval = rotationInterval;
+        this.publishAhead = publishAhead;
+        this.verificationGrace = Duration.ofMillis(refreshTokenExpirationMs);
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval:60000}",
+            initialDelayString = "${jwt.signing.reload-interval:60000}")
+    public void reload() {
+        Instant now = Instant.now();
+        List<SigningKey> keys = signingKeyRepository.findByExpiresAtAfter(now);
+        keys.stream().filter(key -> key.getPrivateKey() != null).forEach(this::sealPlaintext);
+
+        Optional<SigningKey> active = activeAt(keys, now);
+        if (active.isEmpty()) {
+            keys = append(keys, generate(now));
+            active = activeAt(keys, now);
+        } else if (active.get().getRetiresAt().minus(publishAhead).isBefore(now)
+                && keys.stream().noneMatch(key -> key.getActivatesAt().isAfter(now))) {
+            keys = append(keys, generate(active.get().getRetiresAt()));
+        }
+
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        Map<String, PublicJwk<?>> jwks = new LinkedHashMap<>();
+        for (SigningKey key : keys) {
+            PublicKey publicKey = decodePublic(key);
+            publicKeys.put(key.getKid(), publicKey);
+            jwks.put(key.getKid(), Jwks.builder().key(publicKey).id(key.getKid()).build());
+        }
+        SigningKey signing = active.orElseThrow();
+        this.keySet = new KeySet(signing.getKid(), decodePrivate(signing), signatureAlgorithm(signing.getAlgorithm()),
+                Map.copyOf(publicKeys), Map.of("keys", List.copyOf(jwks.values())));
+    }
+
+    public KeySet current() {
+        return keySet;
+    }
+
+    private Optional<SigningKey> activeAt(List<SigningKey> keys, Instant now) {
+        return keys.stream()
+                .filter(key -> !key.getActivatesAt().isAfter(now) && key.getRetiresAt().isAfter(now))
+                .max(Comparator.comparing(SigningKey::getActivatesAt).thenComparing(SigningKey::getKid));
+    }
+
+    private SigningKey generate(Instant activatesAt) {
+        KeyPair pair = algorithm.equals("EdDSA")
+                ? Jwks.CRV.Ed25519.keyPair().build()
+                : Jwts.SIG.ES256.keyPair().build();
+        String kid = Jwks.builder().key(pair.getPublic()).idFromThumbprint().build().getId();
+        Instant retiresAt = activatesAt.plus(rotationInterval);
+
+        SigningKey key = signingKeyRepository.save(SigningKey.builder()
+                .kid(kid)
+                .algorithm(algorithm)
+                .publicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()))
+                .sealedPrivateKey(signingKeyCipher.seal(kid, pair.getPrivate().getEncoded()))
+                .createdAt(Instant.now())
+                .activatesAt(activatesAt)
+                .retiresAt(retiresAt)
+                .expiresAt(retiresAt.plus(verificationGrace))
+                .build());
+        log.info("Generated {} signing key {} active from {}", algorithm, kid, activatesAt);
+        return key;
+    }
+
+    // Keys written before sealing was introduced are sealed in place and their plaintext dropped
+    private void sealPlaintext(SigningKey key) {
+        key.setSealedPrivateKey(signingKeyCipher.seal(key.getKid(), Base64.getDecoder().decode(key.getPrivateKey())));
+        key.setPrivateKey(null);
+        signingKeyRepository.save(key);
+        log.info("Sealed plaintext signing key {}", key.getKid());
+    }
+
+    private static List<SigningKey> append(List<SigningKey> keys, SigningKey key) {
+        List<SigningKey> all = new ArrayList<>(keys);
+        all.add(key);
+        return all;
+    }
+
+    private static SignatureAlgorithm signatureAlgorithm(String algorithm) {
+        return algorithm.equals("EdDSA") ? Jwts.SIG.EdDSA : Jwts.SIG.ES256;
+    }
+
+    private static String keyFactoryAlgorithm(String algorithm) {
+        return algorithm.equals("EdDSA") ? "Ed25519" : "EC";
+    }
+
+    private static PublicKey decodePublic(SigningKey key) {
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm(key.getAlgorithm()))
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unreadable public key " + key.getKid(), e);
+        }
+    }
+
+    private PrivateKey decodePrivate(SigningKey key) {
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm(key.getAlgorithm()))
+                    .generatePrivate(new PKCS8EncodedKeySpec(signingKeyCipher.open(key.getKid(), key.getSealedPrivateKey())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unreadable private key " + key.getKid(), e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class KeySet {
+        private final String signingKid;
+        private final PrivateKey signingKey;
+        private final SignatureAlgorithm signatureAlgorithm;
+        private final Map<String, PublicKey> verificationKeys;
+        private final Map<String, Object> jwks;
+    }
+}
@@ -9,16 +9,13 @@ import com.applyo.auth.model.User;
 import com.applyo.auth.model.UserType;
 import com.applyo.auth.repository.UserRepository;
 import com.applyo.auth.security.JwtTokenProvider;
+import com.applyo.auth.security.LoginThrottle;
+import com.applyo.auth.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
-import java.util.Base64;
 
 @Slf4j
 @Service
@@ -26,47 +23,58 @@ import java.util.Base64;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshSessionService refreshSessionService;
+    private final UserInfoCache userInfoCache;
 
-    public AuthResponse signup(SignupRequest request) {
+    public AuthResponse signup(SignupRequest request, String userAgent) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new UserAlreadyExistsException("Email already registered");
         }
 
         User user = User.builder()
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHasher.hash(request.getPassword()))
                 .fullName(request.getFullName())
                 .userType(request.getUserType())
                 .build();
 
         user = userRepository.save(user);
+        userInfoCache.invalidate(user.getId());
 
-        return generateAuthResponse(user);
+        AuthResponse response = generateAuthResponse(user);
+        refreshSessionService.open(user.getId(), response.getRefreshToken(), userAgent);
+        return response;
     }
 
-    public AuthResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password"));
+    public AuthResponse login(LoginRequest request, String clientIp, String userAgent) {
+        // Rejects locked-out emails and IPs before spending a DB lookup and a bcrypt compare
+        loginThrottle.checkAllowed(request.getEmail(), clientIp);
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null || !passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
+            loginThrottle.recordFailure(request.getEmail(), clientIp);
             throw new InvalidCredentialsException("Invalid email or password");
         }
+        loginThrottle.recordSuccess(request.getEmail());
 
         if (!user.getActive()) {
             throw new InvalidCredentialsException("Account is disabled");
         }
 
-        // Update last login
-        user.setLastLoginAt(Instant.now());
-        
-        // Generate tokens
+        // Bring the stored hash to the current calibrated cost while we have the plaintext
+        String rehashedPassword = passwordHasher.needsRehash(user.getPasswordHash())
+                ? passwordHasher.hash(request.getPassword())
+                : null;
+
         AuthResponse response = generateAuthResponse(user);
-        
-        // Store refresh token hash
-        user.setRefreshTokenHash(hashToken(response.getRefreshToken()));
-        userRepository.save(user);
+        refreshSessionService.open(user.getId(), response.getRefreshToken(), userAgent);
+
+        // Single $set of the login fields rather than rewriting the whole user
+        userRepository.recordLogin(user.getId(), Instant.now(), rehashedPassword);
 
         return response;
     }
@@ -77,56 +85,50 @@ public class AuthService {
         }
 
         String userId = jwtTokenProvider.getUserIdFromToken(request.getRefreshToken());
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        // Verify refresh token matches stored hash
-        String tokenHash = hashToken(request.getRefreshToken());
-        if (!tokenHash.equals(user.getRefreshTokenHash())) {
-            throw new InvalidTokenException("Refresh token has been revoked");
-        }
+        // Rotation only touches this device's session; the user document is read, never written
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userId);
+        refreshSessionService.rotate(request.getRefreshToken(), refreshToken);
 
-        AuthResponse response = generateAuthResponse(user);
-        
-        // Update stored refresh token
-        user.setRefreshTokenHash(hashToken(response.getRefreshToken()));
-        userRepository.save(user);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new InvalidTokenException("Refresh token has been revoked"));
+        if (!user.getActive()) {
+            refreshSessionService.revokeAll(userId);
+            throw new InvalidTokenException("Account is disabled");
+        }
 
-        return response;
+        return buildAuthResponse(user, refreshToken);
     }
 
-    public void logout(String userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-
-        user.setRefreshTokenHash(null);
-        userRepository.save(user);
+    // Logging out one device ends only that login; its access token runs out on its own. The user-wide
+    // access token cutoff is reserved for logout-all and password changes.
+    public void logout(String userId, LogoutRequest request) {
+        if (request != null && request.getRefreshToken() != null) {
+            refreshSessionService.revokeSession(userId, request.getRefreshToken());
+            return;
+        }
+        refreshSessionService.revokeAll(userId);
+        userInfoCache.invalidate(userId);
+        tokenRevocationService.revokeAccessTokens(userId);
     }
 
     public void changePassword(String userId, ChangePasswordRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(request.getCurrentPassword(), user.getPasswordHash())) {
             throw new InvalidCredentialsException("Current password is incorrect");
         }
 
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
-        user.setRefreshTokenHash(null); // Invalidate all sessions
-        userRepository.save(user);
+        userRepository.updatePassword(userId, passwordHasher.hash(request.getNewPassword()));
+        refreshSessionService.revokeAll(userId); // Invalidate all sessions
+        userInfoCache.invalidate(userId);
+        tokenRevocationService.revokeAccessTokens(userId);
     }
 
     public AuthResponse.UserInfo getCurrentUser(String userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-
-        return AuthResponse.UserInfo.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .fullName(user.getFullName())
-                .userType(user.getUserType())
-                .emailVerified(user.getEmailVerified())
-                .build();
+        return userInfoCache.get(userId, () -> toUserInfo(userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found"))));
     }
 
     public boolean validateToken(String token) {
@@ -134,35 +136,36 @@ public class AuthService {
     }
 
     private AuthResponse generateAuthResponse(User user) {
+        return buildAuthResponse(user, jwtTokenProvider.generateRefreshToken(user.getId()));
+    }
+
+    private AuthResponse buildAuthResponse(User user, String refreshToken) {
+        // Login and refresh just read the user, so warm the /me cache with it
+        AuthResponse.UserInfo userInfo = toUserInfo(user);
+        userInfoCache.put(userInfo);
+
         String accessToken = jwtTokenProvider.generateAccessToken(
                 user.getId(),
                 user.getEmail(),
                 user.getUserType().name()
         );
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .tokenType("Bearer")
                 .expiresIn(jwtTokenProvider.getAccessTokenExpirationMs() / 1000)
-                .user(AuthResponse.UserInfo.builder()
-                        .id(user.getId())
-                        .email(user.getEmail())
-                        .fullName(user.getFullName())
-                        .userType(user.getUserType())
-                        .emailVerified(user.getEmailVerified())
-                        .build())
+                .user(userInfo)
                 .build();
     }
 
-    private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Failed to hash token", e);
-        }
+    private AuthResponse.UserInfo toUserInfo(User user) {
+        return AuthResponse.UserInfo.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .fullName(user.getFullName())
+                .userType(user.getUserType())
+                .emailVerified(user.getEmailVerified())
+                .build();
     }
 }
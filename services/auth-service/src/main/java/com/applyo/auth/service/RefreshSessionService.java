@@ -0,0 +1,96 @@
+package com.applyo.auth.service;
+
+import com.applyo.auth.exception.InvalidTokenException;
+import com.applyo.auth.model.RefreshSession;
+import com.applyo.auth.repository.RefreshSessionRepository;
+import com.applyo.auth.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshSessionService {
+
+    private final RefreshSessionRepository refreshSessionRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    // Two tabs refreshing at once both present the same token; the loser is not a thief
+    @Value("${auth.refresh.reuse-grace:10s}")
+    private Duration reuseGrace;
+
+    public void open(String userId, String refreshToken, String userAgent) {
+        save(userId, UUID.randomUUID().toString(), refreshToken, userAgent);
+    }
+
+    // Returns the session that was rotated out; the next token joins its family
+    public RefreshSession rotate(String presentedToken, String nextToken) {
+        String tokenHash = hashToken(presentedToken);
+        Instant now = Instant.now();
+        RefreshSession session = refreshSessionRepository.claim(tokenHash, now)
+                .orElseThrow(() -> {
+                    RefreshSession rotated = refreshSessionRepository.findById(tokenHash).orElse(null);
+                    if (rotated != null && rotated.getRotatedAt().plus(reuseGrace).isAfter(now)) {
+                        return new InvalidTokenException("Refresh token was just rotated");
+                    }
+                    // A token rotated a while ago is being replayed: assume it leaked and end the login
+                    if (rotated != null) {
+                        revokeFamily(rotated);
+                    }
+                    return new InvalidTokenException("Refresh token has been revoked");
+                });
+
+        save(session.getUserId(), session.getFamilyId(), nextToken, session.getUserAgent());
+        return session;
+    }
+
+    // Ends the device login the token belongs to, including the rotated-out tokens kept for reuse detection
+    public void revokeSession(String userId, String refreshToken) {
+        refreshSessionRepository.findById(hashToken(refreshToken))
+                .filter(session -> session.getUserId().equals(userId))
+                .ifPresent(session -> refreshSessionRepository.deleteByFamilyId(session.getFamilyId()));
+    }
+
+    public void revokeAll(String userId) {
+        long removed = refreshSessionRepository.deleteByUserId(userId);
+        log.info("Revoked {} refresh sessions for user {}", removed, userId);
+    }
+
+    private void revokeFamily(RefreshSession reused) {
+        long removed = refreshSessionRepository.deleteByFamilyId(reused.getFamilyId());
+        log.warn("Refresh token reuse detected for user {}, revoked {} sessions in family {}",
+                reused.getUserId(), removed, reused.getFamilyId());
+    }
+
+    private void save(String userId, String familyId, String refreshToken, String userAgent) {
+        Instant now = Instant.now();
+        refreshSessionRepository.save(RefreshSession.builder()
+                .tokenHash(hashToken(refreshToken))
+                .userId(userId)
+                .familyId(familyId)
+                .userAgent(userAgent)
+                .createdAt(now)
+                .expiresAt(now.plusMillis(jwtTokenProvider.getRefreshTokenExpirationMs()))
+                .build());
+    }
+
+    private String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to hash token", e);
+        }
+    }
+}
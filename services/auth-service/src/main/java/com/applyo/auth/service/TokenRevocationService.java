@@ -0,0 +1,56 @@
+package com.applyo.auth.service;
+
+import com.applyo.auth.dto.TokenRevocationSnapshotResponse;
+import com.applyo.auth.model.TokenRevocation;
+import com.applyo.auth.repository.TokenRevocationRepository;
+import com.applyo.auth.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    // updatedAt is stamped before the write commits, so a revocation can land behind an asOf already
+    // handed out; re-reading this window each poll picks it up, and replaying a cutoff is harmless
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    // Millisecond cutoff, matched against the access token's iatMs claim, so a token issued
+    // right after the revocation (e.g. on re-login) stays valid
+    public void revokeAccessTokens(String userId) {
+        Instant now = Instant.now();
+        tokenRevocationRepository.save(TokenRevocation.builder()
+                .userId(userId)
+                .notBefore(now)
+                .updatedAt(now)
+                .expiresAt(now.plusMillis(jwtTokenProvider.getAccessTokenExpirationMs()))
+                .build());
+        log.info("Revoked outstanding access tokens for user {}", userId);
+    }
+
+    public TokenRevocationSnapshotResponse getRevocations(Instant since) {
+        Instant asOf = Instant.now();
+        List<TokenRevocation> revocations = since == null
+                ? tokenRevocationRepository.findByExpiresAtAfter(asOf)
+                : tokenRevocationRepository.findByUpdatedAtAfter(since.minus(POLL_OVERLAP));
+
+        return TokenRevocationSnapshotResponse.builder()
+                .asOf(asOf)
+                .revocations(revocations.stream()
+                        .map(revocation -> TokenRevocationSnapshotResponse.Entry.builder()
+                                .userId(revocation.getUserId())
+                                .notBefore(revocation.getNotBefore())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.applyo.auth.service;
+
+import com.applyo.auth.dto.AuthResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Read-through cache of /auth/me responses keyed by user id
+@Component
+public class UserInfoCache {
+
+    private final boolean enabled;
+    private final Cache<String, AuthResponse.UserInfo> cache;
+
+    public UserInfoCache(MeterRegistry meterRegistry,
+                         @Value("${auth.user-info-cache.enabled:true}") boolean enabled,
+                         @Value("${auth.user-info-cache.max-size:50000}") long maxSize,
+                         @Value("${auth.user-info-cache.ttl:5m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.user-info");
+        Gauge.builder("auth.user-info.cache.hit-ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+    }
+
+    public AuthResponse.UserInfo get(String userId, Supplier<AuthResponse.UserInfo> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return cache.get(userId, id -> loader.get());
+    }
+
+    public void put(AuthResponse.UserInfo userInfo) {
+        if (enabled) {
+            cache.put(userInfo.getId(), userInfo);
+        }
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+}
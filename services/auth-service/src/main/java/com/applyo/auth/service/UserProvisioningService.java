@@ -0,0 +1,121 @@
+package com.applyo.auth.service;
+
+import com.applyo.auth.dto.BulkProvisionResponse;
+import com.applyo.auth.dto.BulkSignupRequest;
+import com.applyo.auth.dto.SignupRequest;
+import com.applyo.auth.model.User;
+import com.applyo.auth.repository.UserRepository;
+import com.applyo.auth.security.PasswordHasher;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Bulk account creation for onboarding imports. Rows go to Mongo in one unordered bulkWrite and
+// duplicates are detected by the unique email index rather than an existsByEmail round trip per row.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningService {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final Validator validator;
+
+    public BulkProvisionResponse provision(BulkSignupRequest request) {
+        List<SignupRequest> rows = request.getUsers();
+        BulkProvisionResponse.Row[] results = new BulkProvisionResponse.Row[rows.size()];
+        List<Integer> validIndexes = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            SignupRequest row = rows.get(i);
+            Set<ConstraintViolation<SignupRequest>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                results[i] = result(i, BulkProvisionResponse.Status.INVALID, null, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            validIndexes.add(i);
+        }
+
+        // bcrypt, not Mongo, bounds throughput here, so valid rows are hashed in parallel; a saturated
+        // hashing pool fails the row, not the batch
+        List<String> passwordHashes = passwordHasher.hashAll(validIndexes.stream()
+                .map(i -> rows.get(i).getPassword())
+                .toList());
+
+        List<User> users = new ArrayList<>(validIndexes.size());
+        List<Integer> rowIndexes = new ArrayList<>(validIndexes.size());
+        for (int j = 0; j < validIndexes.size(); j++) {
+            int index = validIndexes.get(j);
+            if (passwordHashes.get(j) == null) {
+                results[index] = result(index, BulkProvisionResponse.Status.FAILED, null,
+                        "Password hashing is saturated, retry this row");
+                continue;
+            }
+            SignupRequest row = rows.get(index);
+            users.add(User.builder()
+                    .id(new ObjectId().toHexString())
+                    .email(row.getEmail())
+                    .passwordHash(passwordHashes.get(j))
+                    .fullName(row.getFullName())
+                    .userType(row.getUserType())
+                    .build());
+            rowIndexes.add(index);
+        }
+
+        Map<Integer, Integer> errors = users.isEmpty() ? Map.of() : userRepository.insertUnordered(users);
+        for (int j = 0; j < users.size(); j++) {
+            int index = rowIndexes.get(j);
+            Integer code = errors.get(j);
+            if (code == null) {
+                results[index] = result(index, BulkProvisionResponse.Status.CREATED, users.get(j).getId(), null);
+            } else if (code == DUPLICATE_KEY) {
+                results[index] = result(index, BulkProvisionResponse.Status.DUPLICATE, null, "Email already registered");
+            } else {
+                results[index] = result(index, BulkProvisionResponse.Status.FAILED, null, "Write failed with code " + code);
+            }
+        }
+
+        BulkProvisionResponse response = summarize(List.of(results));
+        log.info("Provisioned {} users ({} duplicates, {} failed) from a batch of {}",
+                response.getCreated(), response.getDuplicates(), response.getFailed(), rows.size());
+        return response;
+    }
+
+    private static BulkProvisionResponse summarize(List<BulkProvisionResponse.Row> rows) {
+        int created = 0;
+        int duplicates = 0;
+        for (BulkProvisionResponse.Row row : rows) {
+            if (row.getStatus() == BulkProvisionResponse.Status.CREATED) created++;
+            if (row.getStatus() == BulkProvisionResponse.Status.DUPLICATE) duplicates++;
+        }
+        return BulkProvisionResponse.builder()
+                .created(created)
+                .duplicates(duplicates)
+                .failed(rows.size() - created - duplicates)
+                .rows(rows)
+                .build();
+    }
+
+    private static BulkProvisionResponse.Row result(int index, BulkProvisionResponse.Status status, String id, String message) {
+        return BulkProvisionResponse.Row.builder()
+                .index(index)
+                .status(status)
+                .id(id)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.applyo.candidate.matching;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Scoring and rebuild cost of the matching kernel on synthetic data. Skill popularity is skewed so a few
+// skills have long posting lists, as with real profiles.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchIndexBenchmark {
+
+    private static final int SKILLS = 2_000;
+    private static final int SKILLS_PER_CANDIDATE = 12;
+    private static final int SKILLS_PER_JOB = 6;
+    private static final int QUERIES = 256;
+
+    @Param({"10000", "100000"})
+    private int candidates;
+
+    @Param({"100"})
+    private int k;
+
+    private List<String> ids;
+    private List<int[]> rows;
+    private MatchIndex index;
+    private int[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        ids = new ArrayList<>(candidates);
+        rows = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            ids.add("candidate-" + i);
+            rows.add(skills(random, SKILLS_PER_CANDIDATE));
+        }
+        index = MatchIndex.build(ids, rows, SKILLS);
+
+        queries = new int[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = skills(random, SKILLS_PER_JOB);
+        }
+    }
+
+    @Benchmark
+    public List<MatchIndex.Match> topKByQuery() {
+        return index.topK(nextQuery(), k, MatchIndex.Normalization.QUERY);
+    }
+
+    @Benchmark
+    public List<MatchIndex.Match> topKByRow() {
+        return index.topK(nextQuery(), k, MatchIndex.Normalization.ROW);
+    }
+
+    @Benchmark
+    public MatchIndex build() {
+        return MatchIndex.build(ids, rows, SKILLS);
+    }
+
+    private int[] nextQuery() {
+        int[] query = queries[next];
+        next = (next + 1) % QUERIES;
+        return query;
+    }
+
+    // Sorted, de-duplicated ids; cubing the draw favours low ids, which stand in for common skills
+    private static int[] skills(SplittableRandom random, int count) {
+        return random.ints(count * 2L, 0, Integer.MAX_VALUE)
+                .map(draw -> {
+                    double r = draw / (double) Integer.MAX_VALUE;
+                    return (int) (SKILLS * r * r * r);
+                })
+                .distinct()
+                .limit(count)
+                .sorted()
+                .toArray();
+    }
+}
@@ -1,6 +1,8 @@
 package com.applyo.candidate.controller;
 
 import com.applyo.candidate.dto.*;
+import com.applyo.candidate.exception.SearchNotAllowedException;
+import com.applyo.candidate.security.GatewayIdentity;
 import com.applyo.candidate.service.CandidateService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -46,6 +49,25 @@ public class CandidateController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // Full-text search over headline, about, skills, experience roles and location, narrowed by facet values.
+    // For recruiters only: company accounts, or company API keys granted read:candidates.
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<CandidateSearchResponse>> search(
+            @RequestHeader(value = "X-User-Type", required = false) String userType,
+            @RequestAttribute(name = GatewayIdentity.REQUEST_ATTRIBUTE, required = false) GatewayIdentity identity,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (!"COMPANY".equalsIgnoreCase(userType) && (identity == null || !identity.hasScope("read:candidates"))) {
+            throw new SearchNotAllowedException("Candidate search is only available to companies");
+        }
+        CandidateSearchResponse response = candidateService.search(q, skills, location,
+                Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PutMapping("/profile")
     public ResponseEntity<ApiResponse<CandidateResponse>> updateProfile(
             @RequestHeader("X-User-Id") String userId,
@@ -0,0 +1,27 @@
+package com.applyo.candidate.controller;
+
+import com.applyo.candidate.dto.ApiResponse;
+import com.applyo.candidate.dto.BulkCandidateRequest;
+import com.applyo.candidate.dto.BulkProvisionResponse;
+import com.applyo.candidate.service.CandidateProvisioningService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Service-to-service endpoints; not exposed through gateway routes
+@RestController
+@RequestMapping("/internal/candidates")
+@RequiredArgsConstructor
+public class InternalCandidateController {
+
+    private final CandidateProvisioningService candidateProvisioningService;
+
+    // Always 200 with a result per row; callers retry only the FAILED rows
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkProvisionResponse>> provisionCandidates(
+            @Valid @RequestBody BulkCandidateRequest request) {
+        BulkProvisionResponse response = candidateProvisioningService.provision(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
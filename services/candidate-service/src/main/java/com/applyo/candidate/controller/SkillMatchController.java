@@ -0,0 +1,53 @@
+package com.applyo.candidate.controller;
+
+import com.applyo.candidate.dto.ApiResponse;
+import com.applyo.candidate.dto.SkillMatchResponse;
+import com.applyo.candidate.exception.SearchNotAllowedException;
+import com.applyo.candidate.security.GatewayIdentity;
+import com.applyo.candidate.service.SkillMatchingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/candidate/matches")
+@RequiredArgsConstructor
+public class SkillMatchController {
+
+    private final SkillMatchingService skillMatchingService;
+
+    @Value("${candidate.matching.max-results:100}")
+    private int maxResults;
+
+    // Active jobs ranked by the share of their requirements the current candidate's skills cover
+    @GetMapping("/jobs")
+    public ResponseEntity<ApiResponse<List<SkillMatchResponse>>> matchJobs(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<SkillMatchResponse> matches = skillMatchingService.rankJobsForCandidate(userId, clamp(limit));
+        return ResponseEntity.ok(ApiResponse.success(matches));
+    }
+
+    // Candidates ranked by the share of the job's requirements their skills cover. Same audience as candidate
+    // search (company accounts, or API keys granted read:candidates), and only for the caller's own jobs.
+    @GetMapping("/jobs/{jobId}/candidates")
+    public ResponseEntity<ApiResponse<List<SkillMatchResponse>>> matchCandidates(
+            @RequestHeader(value = "X-User-Type", required = false) String userType,
+            @RequestHeader(value = "X-Company-Id", required = false) String companyId,
+            @RequestAttribute(name = GatewayIdentity.REQUEST_ATTRIBUTE, required = false) GatewayIdentity identity,
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (!"COMPANY".equalsIgnoreCase(userType) && (identity == null || !identity.hasScope("read:candidates"))) {
+            throw new SearchNotAllowedException("Candidate matching is only available to companies");
+        }
+        List<SkillMatchResponse> matches = skillMatchingService.rankCandidatesForJob(jobId, companyId, clamp(limit));
+        return ResponseEntity.ok(ApiResponse.success(matches));
+    }
+
+    private int clamp(int limit) {
+        return Math.min(Math.max(limit, 1), maxResults);
+    }
+}
@@ -0,0 +1,38 @@
+package com.applyo.candidate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProvisionResponse {
+
+    private int created;
+    private int duplicates;
+    private int failed;
+    private List<Row> rows;
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private int index;
+        private Status status;
+        private String id;
+        private String message;
+    }
+}
@@ -0,0 +1,35 @@
+package com.applyo.candidate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateSearchResponse {
+
+    private List<CandidateSearchResult> results;
+    // Facet name (skills, locations) -> most common values among the first matches, by count
+    private Map<String, List<FacetCount>> facets;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    // True when totalElements stopped at the count limit and more candidates match
+    private boolean totalCapped;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private long count;
+    }
+}
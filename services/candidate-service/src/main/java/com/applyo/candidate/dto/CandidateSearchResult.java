@@ -0,0 +1,24 @@
+package com.applyo.candidate.dto;
+
+import com.applyo.candidate.model.Skill;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Search hit for recruiters; contact details stay behind the consent flow
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateSearchResult {
+
+    private String id;
+    private String fullName;
+    private String headline;
+    private String location;
+    private List<Skill> skills;
+    private Integer profileCompletionPercentage;
+}
@@ -0,0 +1,21 @@
+package com.applyo.candidate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillMatchResponse {
+
+    // Candidate id or job id depending on the direction of the match
+    private String id;
+    private String title;
+    private double score;
+    private List<String> matchedSkills;
+}
@@ -0,0 +1,7 @@
+package com.applyo.candidate.exception;
+
+public class InvalidSearchException extends RuntimeException {
+    public InvalidSearchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.applyo.candidate.exception;
+
+public class JobNotFoundException extends RuntimeException {
+    public JobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.applyo.candidate.exception;
+
+public class SearchNotAllowedException extends RuntimeException {
+    public SearchNotAllowedException(String message) {
+        super(message);
+    }
+}
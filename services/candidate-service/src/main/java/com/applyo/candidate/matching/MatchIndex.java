@@ -0,0 +1,196 @@
+package com.applyo.candidate.matching;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Immutable sparse skill vectors for one side (candidates or jobs) in compressed-row form, plus the transposed
+// posting lists. A query's overlap with every row is accumulated by walking only the postings of the query's
+// skills, so scoring cost follows how common those skills are rather than the number of rows. Everything is
+// flat int arrays; the scoring loops allocate one int per row and nothing per posting.
+public final class MatchIndex {
+
+    public enum Normalization {
+        // Fraction of the query's skills a row has (ranking candidates for a job's requirements)
+        QUERY,
+        // Fraction of a row's skills the query has (ranking jobs by how many of their requirements are met)
+        ROW
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final int row;
+        private final int overlap;
+        private final float score;
+    }
+
+    private final String[] ids;
+    private final Map<String, Integer> rowsById;
+    private final int[] rowOffsets;
+    private final int[] rowSkills;
+    private final float[] rowInverseSizes;
+    private final int[] postingOffsets;
+    private final int[] postingRows;
+
+    private MatchIndex(String[] ids, int[] rowOffsets, int[] rowSkills, int[] postingOffsets, int[] postingRows) {
+        this.ids = ids;
+        this.rowOffsets = rowOffsets;
+        this.rowSkills = rowSkills;
+        this.postingOffsets = postingOffsets;
+        this.postingRows = postingRows;
+        this.rowsById = new HashMap<>(ids.length * 2);
+        this.rowInverseSizes = new float[ids.length];
+        for (int row = 0; row < ids.length; row++) {
+            rowsById.put(ids[row], row);
+            int size = rowOffsets[row + 1] - rowOffsets[row];
+            rowInverseSizes[row] = size == 0 ? 0f : 1f / size;
+        }
+    }
+
+    // rows.get(i) holds the sorted, de-duplicated skill ids of ids.get(i)
+    public static MatchIndex build(List<String> ids, List<int[]> rows, int skillCount) {
+        int rowCount = ids.size();
+        int[] rowOffsets = new int[rowCount + 1];
+        for (int row = 0; row < rowCount; row++) {
+            rowOffsets[row + 1] = rowOffsets[row] + rows.get(row).length;
+        }
+
+        int[] rowSkills = new int[rowOffsets[rowCount]];
+        int[] postingOffsets = new int[skillCount + 1];
+        for (int row = 0; row < rowCount; row++) {
+            int[] skills = rows.get(row);
+            System.arraycopy(skills, 0, rowSkills, rowOffsets[row], skills.length);
+            for (int skill : skills) {
+                postingOffsets[skill + 1]++;
+            }
+        }
+        for (int skill = 0; skill < skillCount; skill++) {
+            postingOffsets[skill + 1] += postingOffsets[skill];
+        }
+
+        // Rows are visited in order, so every posting list comes out sorted by row
+        int[] postingRows = new int[rowSkills.length];
+        int[] cursor = Arrays.copyOf(postingOffsets, skillCount);
+        for (int row = 0; row < rowCount; row++) {
+            for (int p = rowOffsets[row]; p < rowOffsets[row + 1]; p++) {
+                postingRows[cursor[rowSkills[p]]++] = row;
+            }
+        }
+
+        return new MatchIndex(ids.toArray(new String[0]), rowOffsets, rowSkills, postingOffsets, postingRows);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public String idAt(int row) {
+        return ids[row];
+    }
+
+    public int[] skillsAt(int row) {
+        return Arrays.copyOfRange(rowSkills, rowOffsets[row], rowOffsets[row + 1]);
+    }
+
+    // Null when the id isn't indexed
+    public int[] skillsOf(String id) {
+        Integer row = rowsById.get(id);
+        return row != null ? skillsAt(row) : null;
+    }
+
+    // Best k rows by normalized overlap with the query's sorted, de-duplicated skill ids; ties go to the
+    // earlier row so results are stable between calls
+    public List<Match> topK(int[] querySkills, int k, Normalization normalization) {
+        if (querySkills.length == 0 || k <= 0 || ids.length == 0) {
+            return List.of();
+        }
+
+        int[] overlap = new int[ids.length];
+        int skillCount = postingOffsets.length - 1;
+        for (int skill : querySkills) {
+            if (skill < 0 || skill >= skillCount) {
+                continue;
+            }
+            for (int p = postingOffsets[skill], end = postingOffsets[skill + 1]; p < end; p++) {
+                overlap[postingRows[p]]++;
+            }
+        }
+
+        // Bounded min-heap in parallel primitive arrays; the root is the worst match kept so far
+        float queryInverse = 1f / querySkills.length;
+        float[] heapScores = new float[k];
+        int[] heapRows = new int[k];
+        int size = 0;
+        for (int row = 0; row < overlap.length; row++) {
+            int common = overlap[row];
+            if (common == 0) {
+                continue;
+            }
+            float score = common * (normalization == Normalization.QUERY ? queryInverse : rowInverseSizes[row]);
+            if (size < k) {
+                heapScores[size] = score;
+                heapRows[size] = row;
+                siftUp(heapScores, heapRows, size++);
+            } else if (score > heapScores[0]) {
+                heapScores[0] = score;
+                heapRows[0] = row;
+                siftDown(heapScores, heapRows, size);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            matches.add(new Match(heapRows[i], overlap[heapRows[i]], heapScores[i]));
+        }
+        matches.sort((a, b) -> a.score != b.score ? Float.compare(b.score, a.score) : Integer.compare(a.row, b.row));
+        return matches;
+    }
+
+    // a ranks below b: lower score, or the same score on a later row
+    private static boolean worse(float[] scores, int[] rows, int a, int b) {
+        return scores[a] < scores[b] || (scores[a] == scores[b] && rows[a] > rows[b]);
+    }
+
+    private static void siftUp(float[] scores, int[] rows, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(scores, rows, i, parent)) {
+                return;
+            }
+            swap(scores, rows, i, parent);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(float[] scores, int[] rows, int size) {
+        int i = 0;
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int child = right < size && worse(scores, rows, right, left) ? right : left;
+            if (!worse(scores, rows, child, i)) {
+                return;
+            }
+            swap(scores, rows, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(float[] scores, int[] rows, int a, int b) {
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        int row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+    }
+}
@@ -0,0 +1,69 @@
+package com.applyo.candidate.matching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Interns normalized skill names to dense int ids. Built single-threaded during an index rebuild and only
+// read afterwards, so plain collections are enough.
+public final class SkillDictionary {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    public int intern(String skill) {
+        String normalized = SkillNormalizer.normalize(skill);
+        if (normalized == null) {
+            return -1;
+        }
+        return ids.computeIfAbsent(normalized, name -> {
+            names.add(name);
+            return names.size() - 1;
+        });
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public String name(int id) {
+        return names.get(id);
+    }
+
+    // Sorted, de-duplicated ids of the known skills in a list of skill names
+    public int[] encodeSkills(List<String> skills) {
+        Set<Integer> encoded = new LinkedHashSet<>();
+        for (String skill : skills) {
+            String normalized = SkillNormalizer.normalize(skill);
+            Integer id = normalized != null ? ids.get(normalized) : null;
+            if (id != null) {
+                encoded.add(id);
+            }
+        }
+        return sorted(encoded);
+    }
+
+    // Sorted, de-duplicated ids of the known skills mentioned anywhere in free-text requirement lines
+    public int[] encodeText(List<String> lines) {
+        Set<Integer> encoded = new LinkedHashSet<>();
+        for (String line : lines) {
+            for (String phrase : SkillNormalizer.phrases(line)) {
+                Integer id = ids.get(phrase);
+                if (id != null) {
+                    encoded.add(id);
+                }
+            }
+        }
+        return sorted(encoded);
+    }
+
+    private static int[] sorted(Set<Integer> ids) {
+        int[] result = ids.stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(result);
+        return result;
+    }
+}
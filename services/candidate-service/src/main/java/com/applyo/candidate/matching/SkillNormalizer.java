@@ -0,0 +1,84 @@
+package com.applyo.candidate.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Canonical form shared by candidate skill names and job requirement text: lower case, punctuation other than
+// the characters used in skill names (c++, c#, node.js) folded to spaces, common aliases collapsed
+public final class SkillNormalizer {
+
+    private static final int MAX_NGRAM = 3;
+
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("js", "javascript"),
+            Map.entry("ts", "typescript"),
+            Map.entry("nodejs", "node.js"),
+            Map.entry("reactjs", "react"),
+            Map.entry("react.js", "react"),
+            Map.entry("postgres", "postgresql"),
+            Map.entry("k8s", "kubernetes"),
+            Map.entry("springboot", "spring boot"));
+
+    private SkillNormalizer() {
+    }
+
+    // Null when nothing is left after normalization
+    public static String normalize(String skill) {
+        List<String> tokens = tokens(skill);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        String joined = String.join(" ", tokens);
+        return ALIASES.getOrDefault(joined, joined);
+    }
+
+    // Every 1..3 word phrase of a requirement line, in normalized form, to look up in the skill vocabulary
+    public static List<String> phrases(String text) {
+        List<String> tokens = tokens(text);
+        List<String> phrases = new ArrayList<>();
+        for (int start = 0; start < tokens.size(); start++) {
+            StringBuilder phrase = new StringBuilder();
+            for (int n = 0; n < MAX_NGRAM && start + n < tokens.size(); n++) {
+                if (n > 0) {
+                    phrase.append(' ');
+                }
+                phrase.append(tokens.get(start + n));
+                String value = phrase.toString();
+                phrases.add(ALIASES.getOrDefault(value, value));
+            }
+        }
+        return phrases;
+    }
+
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#' || c == '.') {
+                token.append(c);
+            } else if (!token.isEmpty()) {
+                addToken(tokens, token);
+                token.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    // Sentence punctuation around a token is dropped, dots inside it (node.js, asp.net) are kept
+    private static void addToken(List<String> tokens, StringBuilder token) {
+        int start = 0;
+        int end = token.length();
+        while (start < end && token.charAt(start) == '.') start++;
+        while (end > start && token.charAt(end - 1) == '.') end--;
+        if (start < end) {
+            tokens.add(token.substring(start, end));
+        }
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface CandidateRepository extends MongoRepository<Candidate, String> {
+public interface CandidateRepository extends MongoRepository<Candidate, String>, CandidateRepositoryCustom {
 
     Optional<Candidate> findByUserId(String userId);
 
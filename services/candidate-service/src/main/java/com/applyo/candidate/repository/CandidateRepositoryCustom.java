@@ -0,0 +1,20 @@
+package com.applyo.candidate.repository;
+
+import com.applyo.candidate.model.Candidate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface CandidateRepositoryCustom {
+
+    Map<Integer, Integer> insertUnordered(List<Candidate> candidates);
+
+    Optional<Candidate> setFields(String userId, Map<String, Object> fields);
+
+    Optional<Candidate> pushEntries(String userId, String field, List<?> entries);
+
+    Optional<Candidate> pullEntry(String userId, String field, String entryId);
+
+    CandidateSearchPage search(String text, List<String> skills, String location, int page, int size);
+}
@@ -0,0 +1,177 @@
+package com.applyo.candidate.repository;
+
+import com.applyo.candidate.model.Candidate;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class CandidateRepositoryImpl implements CandidateRepositoryCustom {
+
+    // Sections counted towards profile completion; a section counts when the string or list is non-empty
+    private static final List<String> COMPLETION_STRINGS = List.of("fullName", "phone", "headline", "location", "about");
+    private static final List<String> COMPLETION_LISTS = List.of("education", "experience", "skills", "documentIds");
+
+    private static final int FACET_LIMIT = 20;
+    private static final int FACET_SAMPLE_SIZE = 1000;
+
+    // Only what a search hit shows; see CandidateSearchResult
+    private static final Document SEARCH_FIELDS = new Document()
+            .append("fullName", 1)
+            .append("headline", 1)
+            .append("location", 1)
+            .append("skills", 1)
+            .append("profileCompletionPercentage", 1);
+
+    private final MongoTemplate mongoTemplate;
+
+    // One unordered bulkWrite; rows rejected by the server (e.g. 11000 on the unique email or userId index)
+    // don't stop the rest. Returns the Mongo error code per failed index.
+    @Override
+    public Map<Integer, Integer> insertUnordered(List<Candidate> candidates) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Candidate.class).insert(candidates).execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getCode));
+        }
+    }
+
+    @Override
+    public Optional<Candidate> setFields(String userId, Map<String, Object> fields) {
+        Document values = new Document();
+        fields.forEach((field, value) -> values.put(field, new Document("$literal", value)));
+        return update(userId, values);
+    }
+
+    // $push expressed as $concatArrays so the completion stage sees the new list in the same update
+    @Override
+    public Optional<Candidate> pushEntries(String userId, String field, List<?> entries) {
+        Object converted = mongoTemplate.getConverter().convertToMongoType(entries);
+        return update(userId, new Document(field, new Document("$concatArrays", List.of(
+                new Document("$ifNull", List.of("$" + field, List.of())),
+                new Document("$literal", converted)))));
+    }
+
+    // $pull by entry id expressed as $filter; embedded id properties are stored as _id
+    @Override
+    public Optional<Candidate> pullEntry(String userId, String field, String entryId) {
+        return update(userId, new Document(field, new Document("$filter", new Document()
+                .append("input", new Document("$ifNull", List.of("$" + field, List.of())))
+                .append("cond", new Document("$ne", List.of("$$this._id", entryId))))));
+    }
+
+    // The page is a plain indexed find: the weighted "candidate_search" text index ordered by text score, or
+    // the skills.name / location indexes ordered on {profileCompletionPercentage: -1, _id: 1} (all in
+    // mongo-init.js). $facet sub-pipelines can't use indexes, so facets only look at the first
+    // FACET_SAMPLE_SIZE matches and the total stops counting at TOTAL_COUNT_LIMIT; no request walks every
+    // candidate.
+    @Override
+    public CandidateSearchPage search(String text, List<String> skills, String location, int page, int size) {
+        Document match = new Document();
+        if (text != null) {
+            match.append("$text", new Document("$search", text));
+        }
+        if (!skills.isEmpty()) {
+            match.append("skills.name", new Document("$all", skills));
+        }
+        if (location != null) {
+            match.append("location", location);
+        }
+
+        Document sort = text != null
+                ? new Document("score", new Document("$meta", "textScore")).append("_id", 1)
+                : new Document("profileCompletionPercentage", -1).append("_id", 1);
+        BasicQuery pageQuery = new BasicQuery(match, SEARCH_FIELDS);
+        pageQuery.setSortObject(sort);
+        pageQuery.skip((long) page * size).limit(size);
+        List<Candidate> candidates = mongoTemplate.find(pageQuery, Candidate.class);
+
+        int countLimit = CandidateSearchPage.TOTAL_COUNT_LIMIT;
+        long total = mongoTemplate.count(new BasicQuery(match).limit(countLimit + 1), Candidate.class);
+
+        Document facet = new Document()
+                // $setUnion de-duplicates a candidate's own skills so each candidate counts once per value
+                .append("skills", List.of(
+                        new Document("$project", new Document("value",
+                                new Document("$setUnion", List.of(new Document("$ifNull", List.of("$skills.name", List.of())), List.of())))),
+                        new Document("$unwind", "$value"),
+                        new Document("$sortByCount", "$value"),
+                        new Document("$limit", FACET_LIMIT)))
+                .append("locations", List.of(
+                        new Document("$match", new Document("location", new Document("$nin", Arrays.asList(null, "")))),
+                        new Document("$sortByCount", "$location"),
+                        new Document("$limit", FACET_LIMIT)));
+
+        List<AggregationOperation> stages = List.of(
+                context -> new Document("$match", match),
+                context -> new Document("$limit", FACET_SAMPLE_SIZE),
+                context -> new Document("$facet", facet));
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(stages), Candidate.class, Document.class)
+                .getUniqueMappedResult();
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("skills", result == null ? Map.of() : counts(result.getList("skills", Document.class)));
+        facets.put("locations", result == null ? Map.of() : counts(result.getList("locations", Document.class)));
+        return new CandidateSearchPage(candidates, Math.min(total, countLimit), total > countLimit, facets);
+    }
+
+    private static Map<String, Long> counts(List<Document> buckets) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        buckets.forEach(bucket -> counts.put(String.valueOf(bucket.get("_id")), bucket.get("count", Number.class).longValue()));
+        return counts;
+    }
+
+    // One findAndModify with a two-stage pipeline: apply the change, then recompute the completion fields
+    // from the updated document. The edit and its completion score are written atomically and only the
+    // touched fields travel over the wire.
+    private Optional<Candidate> update(String userId, Document changes) {
+        int sections = COMPLETION_STRINGS.size() + COMPLETION_LISTS.size();
+        Document score = completionScore();
+        Document percentage = new Document("$toInt", new Document("$floor", new Document("$divide",
+                List.of(new Document("$multiply", List.of(score, 100)), sections))));
+
+        AggregationOperation apply = context -> new Document("$set", changes.append("updatedAt", "$$NOW"));
+        AggregationOperation complete = context -> new Document("$set", new Document()
+                .append("profileCompletionPercentage", percentage)
+                .append("profileComplete", new Document("$eq", List.of(score, sections))));
+
+        Query query = new Query(Criteria.where("userId").is(userId));
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, AggregationUpdate.from(List.of(apply, complete)),
+                FindAndModifyOptions.options().returnNew(true), Candidate.class));
+    }
+
+    private static Document completionScore() {
+        List<Object> points = new ArrayList<>();
+        for (String field : COMPLETION_STRINGS) {
+            points.add(point(new Document("$strLenCP", new Document("$ifNull", List.of("$" + field, "")))));
+        }
+        for (String field : COMPLETION_LISTS) {
+            points.add(point(new Document("$size", new Document("$ifNull", List.of("$" + field, List.of())))));
+        }
+        return new Document("$add", points);
+    }
+
+    private static Document point(Document length) {
+        return new Document("$cond", List.of(new Document("$gt", List.of(length, 0)), 1, 0));
+    }
+}
@@ -0,0 +1,22 @@
+package com.applyo.candidate.repository;
+
+import com.applyo.candidate.model.Candidate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// One page of search hits plus the (capped) total match count and facet value counts (value -> candidates)
+@Getter
+@AllArgsConstructor
+public class CandidateSearchPage {
+
+    // Matches are counted up to this many; it also bounds how deep a search can page
+    public static final int TOTAL_COUNT_LIMIT = 10000;
+
+    private final List<Candidate> candidates;
+    private final long total;
+    private final boolean totalCapped;
+    private final Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,215 @@
+package com.applyo.candidate.security;
+
+import com.applyo.candidate.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Guards /internal/** with a key derived from the identity secret: HMAC-SHA256(IDENTITY_SECRET, "internal-auth").
+// Callers send X-Internal-Auth: <epoch seconds> "." <nonce> "." base64url(HMAC-SHA256 over
+// "<epoch seconds>\n<nonce>\n<METHOD>\n<raw path>\n<raw query>\n<base64url SHA-256 of the body>"), so a
+// credential is bound to one exact request, and each one is accepted once within the skew window.
+// Copied verbatim into auth-, candidate- and company-service (only the package differs); keep the copies in sync.
+@Slf4j
+@Component
+public class InternalRequestFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Internal-Auth";
+    public static final String KEY_LABEL = "internal-auth";
+
+    private static final String INTERNAL_PREFIX = "/internal/";
+    private static final long MAX_SKEW_SECONDS = 60;
+    private static final int MAX_NONCE_LENGTH = 64;
+    private static final int MAX_BODY_BYTES = 4 * 1024 * 1024;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final ObjectMapper objectMapper;
+    private final ThreadLocal<Mac> mac;
+
+    // Signatures accepted within the skew window, with their timestamps; a repeat is a replay
+    private final Map<String, Long> seen = new ConcurrentHashMap<>();
+
+    public InternalRequestFilter(@Value("${gateway.identity.secret}") String secret, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        SecretKeySpec key = new SecretKeySpec(deriveKey(secret), "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance("HmacSHA256");
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    // Keeps the internal-call key separate from the envelope key even though both come from IDENTITY_SECRET
+    public static byte[] deriveKey(String secret) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("gateway.identity.secret (IDENTITY_SECRET) must be set; generate one with: openssl rand -base64 32");
+        }
+        try {
+            Mac derive = Mac.getInstance("HmacSHA256");
+            derive.init(new SecretKeySpec(Base64.getDecoder().decode(secret), "HmacSHA256"));
+            return derive.doFinal(KEY_LABEL.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    public static String bodyHash(byte[] body) {
+        try {
+            return ENCODER.encodeToString(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static String canonical(long timestamp, String nonce, String method, String path, String query,
+                                   String bodyHash) {
+        return timestamp + "\n" + nonce + "\n" + method + "\n" + path + "\n" + (query != null ? query : "") + "\n" + bodyHash;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(INTERNAL_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "Internal request body too large");
+            return;
+        }
+        if (!verify(request.getHeader(HEADER), request.getMethod(), request.getRequestURI(), request.getQueryString(), body)) {
+            log.warn("Rejected unauthenticated internal call to {}", request.getRequestURI());
+            reject(response, HttpStatus.UNAUTHORIZED, "Missing or invalid service credential");
+            return;
+        }
+        chain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(status.value(), message));
+    }
+
+    private boolean verify(String credential, String method, String path, String query, byte[] body) {
+        if (credential == null) {
+            return false;
+        }
+        String[] parts = credential.split("\\.", -1);
+        if (parts.length != 3 || parts[1].isEmpty() || parts[1].length() > MAX_NONCE_LENGTH) {
+            return false;
+        }
+        try {
+            long timestamp = Long.parseLong(parts[0]);
+            long now = Instant.now().getEpochSecond();
+            if (Math.abs(now - timestamp) > MAX_SKEW_SECONDS) {
+                return false;
+            }
+            byte[] expected = mac.get().doFinal(canonical(timestamp, parts[1], method, path, query, bodyHash(body))
+                    .getBytes(StandardCharsets.UTF_8));
+            byte[] actual = Base64.getUrlDecoder().decode(parts[2]);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return false;
+            }
+
+            // Only authentic credentials reach here, so the map holds at most the last window of internal calls
+            seen.values().removeIf(seenAt -> Math.abs(now - seenAt) > MAX_SKEW_SECONDS);
+            return seen.putIfAbsent(parts[2], timestamp) == null;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // The body was consumed to check its hash; hand the same bytes on to the controller
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.applyo.candidate.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+// Adds the X-Internal-Auth credential that InternalRequestFilter checks on other services' /internal/** endpoints
+@Component
+public class InternalRequestSigner implements ClientHttpRequestInterceptor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Mac> mac;
+
+    public InternalRequestSigner(@Value("${gateway.identity.secret}") String secret) {
+        SecretKeySpec key = new SecretKeySpec(InternalRequestFilter.deriveKey(secret), "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance("HmacSHA256");
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long timestamp = Instant.now().getEpochSecond();
+        byte[] nonceBytes = new byte[16];
+        secureRandom.nextBytes(nonceBytes);
+        String nonce = HexFormat.of().formatHex(nonceBytes);
+
+        URI uri = request.getURI();
+        byte[] signature = mac.get().doFinal(InternalRequestFilter.canonical(timestamp, nonce, request.getMethod().name(),
+                uri.getRawPath(), uri.getRawQuery(), InternalRequestFilter.bodyHash(body)).getBytes(StandardCharsets.UTF_8));
+        request.getHeaders().set(InternalRequestFilter.HEADER, timestamp + "." + nonce + "." + ENCODER.encodeToString(signature));
+        return execution.execute(request, body);
+    }
+}
@@ -0,0 +1,238 @@
+package com.applyo.candidate.service;
+
+import com.applyo.candidate.dto.CandidateResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Two-tier read cache for candidate profiles: a size-bounded local Caffeine tier in front of the shared Redis
+// tier. A profile is stored under its id, userId and email so every lookup path hits. Mutations drop all
+// three keys from both tiers on this replica; other replicas' local copies age out after local.ttl.
+// Entries are versioned by updatedAt: an invalidation leaves a short-lived version floor per key, and a
+// store whose profile was loaded before that write (a read racing the update) is skipped instead of
+// putting the stale copy back.
+@Slf4j
+@Component
+public class CandidateProfileCache {
+
+    private static final String REDIS_PREFIX = "candidate:profile:";
+    private static final String FLOOR_SUFFIX = ":floor";
+
+    // Only has to outlive a load that started before the write it races
+    private static final Duration VERSION_FLOOR_TTL = Duration.ofMinutes(1);
+
+    // KEYS: entry keys; ARGV: json, version, ttl ms, floor suffix
+    private static final RedisScript<Long> STORE_SCRIPT = RedisScript.of("""
+            local stored = 0
+            for _, key in ipairs(KEYS) do
+                local floor = redis.call('GET', key .. ARGV[4])
+                if not floor or tonumber(floor) <= tonumber(ARGV[2]) then
+                    redis.call('SET', key, ARGV[1], 'PX', ARGV[3])
+                    stored = stored + 1
+                end
+            end
+            return stored
+            """, Long.class);
+
+    // KEYS: entry keys; ARGV: version, floor ttl ms, floor suffix
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = RedisScript.of("""
+            for _, key in ipairs(KEYS) do
+                redis.call('DEL', key)
+                local floor = redis.call('GET', key .. ARGV[3])
+                if not floor or tonumber(floor) < tonumber(ARGV[1]) then
+                    floor = ARGV[1]
+                end
+                redis.call('SET', key .. ARGV[3], floor, 'PX', ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    public enum Key {
+        ID("id:"),
+        USER_ID("user:"),
+        EMAIL("email:");
+
+        private final String prefix;
+
+        Key(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private final boolean enabled;
+    private final Duration redisTtl;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedProfile> local;
+    private final Cache<String, Long> localFloors;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private final DistributionSummary localAge;
+    private final DistributionSummary redisAge;
+
+    public CandidateProfileCache(MeterRegistry meterRegistry,
+                                 ObjectMapper objectMapper,
+                                 ObjectProvider<StringRedisTemplate> redisTemplate,
+                                 @Value("${candidate.profile-cache.enabled:true}") boolean enabled,
+                                 @Value("${candidate.profile-cache.local.max-size:20000}") long localMaxSize,
+                                 @Value("${candidate.profile-cache.local.ttl:30s}") Duration localTtl,
+                                 @Value("${candidate.profile-cache.redis.enabled:true}") boolean redisEnabled,
+                                 @Value("${candidate.profile-cache.redis.ttl:10m}") Duration redisTtl) {
+        this.enabled = enabled;
+        this.redisTtl = redisTtl;
+        this.redis = redisEnabled ? redisTemplate.getIfAvailable() : null;
+        this.objectMapper = objectMapper;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "candidate.profile.local");
+        this.localFloors = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(VERSION_FLOOR_TTL)
+                .build();
+
+        this.localHits = meterRegistry.counter("candidate.profile.cache.requests", "tier", "local", "result", "hit");
+        this.redisHits = meterRegistry.counter("candidate.profile.cache.requests", "tier", "redis", "result", "hit");
+        this.misses = meterRegistry.counter("candidate.profile.cache.requests", "tier", "all", "result", "miss");
+        this.invalidations = meterRegistry.counter("candidate.profile.cache.invalidations");
+        // Age of the cached copy when served, i.e. how stale a hit can be
+        this.localAge = DistributionSummary.builder("candidate.profile.cache.staleness")
+                .baseUnit("milliseconds")
+                .tag("tier", "local")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.redisAge = DistributionSummary.builder("candidate.profile.cache.staleness")
+                .baseUnit("milliseconds")
+                .tag("tier", "redis")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    public CandidateResponse get(Key key, String value, Supplier<CandidateResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String cacheKey = key.prefix + value;
+        long now = System.currentTimeMillis();
+
+        CachedProfile cached = local.getIfPresent(cacheKey);
+        if (cached != null) {
+            localHits.increment();
+            localAge.record(now - cached.getCachedAt());
+            return cached.getProfile();
+        }
+
+        cached = readRedis(cacheKey);
+        if (cached != null) {
+            redisHits.increment();
+            redisAge.record(now - cached.getCachedAt());
+            putLocal(cacheKey, cached);
+            return cached.getProfile();
+        }
+
+        misses.increment();
+        CandidateResponse profile = loader.get();
+        store(new CachedProfile(profile, now));
+        return profile;
+    }
+
+    public void invalidate(CandidateResponse profile) {
+        if (!enabled) {
+            return;
+        }
+        invalidations.increment();
+        List<String> keys = keys(profile);
+        long version = version(profile);
+        for (String key : keys) {
+            localFloors.asMap().merge(key, version, Math::max);
+            local.asMap().remove(key);
+        }
+        if (redis != null) {
+            try {
+                redis.execute(INVALIDATE_SCRIPT, keys.stream().map(key -> REDIS_PREFIX + key).toList(),
+                        Long.toString(version), Long.toString(VERSION_FLOOR_TTL.toMillis()), FLOOR_SUFFIX);
+            } catch (RuntimeException e) {
+                log.warn("Profile cache Redis tier unavailable: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void store(CachedProfile cached) {
+        List<String> keys = keys(cached.getProfile());
+        keys.forEach(key -> putLocal(key, cached));
+        if (redis == null) {
+            return;
+        }
+        try {
+            redis.execute(STORE_SCRIPT, keys.stream().map(key -> REDIS_PREFIX + key).toList(),
+                    objectMapper.writeValueAsString(cached), Long.toString(version(cached.getProfile())),
+                    Long.toString(redisTtl.toMillis()), FLOOR_SUFFIX);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Profile cache Redis tier unavailable: {}", e.getMessage());
+        }
+    }
+
+    // The floor check runs inside the map's per-key lock, which invalidate's remove also takes, so a stale
+    // put either lands first and is removed, or sees the floor and is dropped
+    private void putLocal(String key, CachedProfile cached) {
+        long version = version(cached.getProfile());
+        local.asMap().compute(key, (k, current) -> {
+            Long floor = localFloors.getIfPresent(k);
+            return floor == null || floor <= version ? cached : current;
+        });
+    }
+
+    private static long version(CandidateResponse profile) {
+        return profile.getUpdatedAt() != null ? profile.getUpdatedAt().toEpochMilli() : 0L;
+    }
+
+    private CachedProfile readRedis(String cacheKey) {
+        if (redis == null) {
+            return null;
+        }
+        try {
+            String json = redis.opsForValue().get(REDIS_PREFIX + cacheKey);
+            return json != null ? objectMapper.readValue(json, CachedProfile.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Profile cache Redis tier unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<String> keys(CandidateResponse profile) {
+        return List.of(Key.ID.prefix + profile.getId(),
+                Key.USER_ID.prefix + profile.getUserId(),
+                Key.EMAIL.prefix + profile.getEmail());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedProfile {
+        private CandidateResponse profile;
+        private long cachedAt;
+    }
+}
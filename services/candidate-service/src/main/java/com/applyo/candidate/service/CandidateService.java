@@ -3,16 +3,22 @@ package com.applyo.candidate.service;
 import com.applyo.candidate.dto.*;
 import com.applyo.candidate.exception.CandidateNotFoundException;
 import com.applyo.candidate.exception.DuplicateEmailException;
+import com.applyo.candidate.exception.InvalidSearchException;
 import com.applyo.candidate.model.Candidate;
 import com.applyo.candidate.model.Education;
 import com.applyo.candidate.model.Experience;
 import com.applyo.candidate.model.Skill;
 import com.applyo.candidate.repository.CandidateRepository;
+import com.applyo.candidate.repository.CandidateSearchPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -21,6 +27,7 @@ import java.util.UUID;
 public class CandidateService {
 
     private final CandidateRepository candidateRepository;
+    private final CandidateProfileCache profileCache;
 
     public CandidateResponse createCandidate(CreateCandidateRequest request) {
         if (candidateRepository.existsByEmail(request.getEmail())) {
@@ -34,50 +41,81 @@ public class CandidateService {
                 .build();
 
         candidate = candidateRepository.save(candidate);
-        return mapToResponse(candidate);
+        CandidateResponse response = mapToResponse(candidate);
+        profileCache.invalidate(response);
+        return response;
     }
 
     public CandidateResponse getProfile(String userId) {
-        Candidate candidate = candidateRepository.findByUserId(userId)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
-        return mapToResponse(candidate);
+        return profileCache.get(CandidateProfileCache.Key.USER_ID, userId, () -> mapToResponse(
+                candidateRepository.findByUserId(userId)
+                        .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"))));
     }
 
     public CandidateResponse getProfileByEmail(String email) {
-        Candidate candidate = candidateRepository.findByEmail(email)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
-        return mapToResponse(candidate);
+        return profileCache.get(CandidateProfileCache.Key.EMAIL, email, () -> mapToResponse(
+                candidateRepository.findByEmail(email)
+                        .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"))));
     }
 
     public CandidateResponse getProfileById(String id) {
-        Candidate candidate = candidateRepository.findById(id)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
-        return mapToResponse(candidate);
+        return profileCache.get(CandidateProfileCache.Key.ID, id, () -> mapToResponse(
+                candidateRepository.findById(id)
+                        .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"))));
+    }
+
+    public CandidateSearchResponse search(String query, List<String> skills, String location, int page, int size) {
+        String text = StringUtils.hasText(query) ? query.trim() : null;
+        List<String> skillNames = skills == null
+                ? List.of()
+                : skills.stream().filter(StringUtils::hasText).map(String::trim).toList();
+        String place = StringUtils.hasText(location) ? location.trim() : null;
+        // Unfiltered queries and deep pages would only be answered by scanning the collection
+        if (text == null && skillNames.isEmpty() && place == null) {
+            throw new InvalidSearchException("Provide a search term, skills or a location");
+        }
+        if ((long) (page + 1) * size > CandidateSearchPage.TOTAL_COUNT_LIMIT) {
+            throw new InvalidSearchException("Refine the search to see results beyond the first "
+                    + CandidateSearchPage.TOTAL_COUNT_LIMIT);
+        }
+
+        CandidateSearchPage result = candidateRepository.search(text, skillNames, place, page, size);
+
+        Map<String, List<CandidateSearchResponse.FacetCount>> facets = new LinkedHashMap<>();
+        result.getFacets().forEach((facet, counts) -> facets.put(facet, counts.entrySet().stream()
+                .map(entry -> CandidateSearchResponse.FacetCount.builder()
+                        .value(entry.getKey())
+                        .count(entry.getValue())
+                        .build())
+                .toList()));
+
+        return CandidateSearchResponse.builder()
+                .results(result.getCandidates().stream().map(this::mapToSearchResult).toList())
+                .facets(facets)
+                .page(page)
+                .size(size)
+                .totalElements(result.getTotal())
+                .totalPages((int) ((result.getTotal() + size - 1) / size))
+                .totalCapped(result.isTotalCapped())
+                .build();
     }
 
     public CandidateResponse updateProfile(String userId, UpdateProfileRequest request) {
-        Candidate candidate = candidateRepository.findByUserId(userId)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
-
-        if (request.getFullName() != null) candidate.setFullName(request.getFullName());
-        if (request.getPhone() != null) candidate.setPhone(request.getPhone());
-        if (request.getHeadline() != null) candidate.setHeadline(request.getHeadline());
-        if (request.getLocation() != null) candidate.setLocation(request.getLocation());
-        if (request.getAbout() != null) candidate.setAbout(request.getAbout());
-        if (request.getLinkedinUrl() != null) candidate.setLinkedinUrl(request.getLinkedinUrl());
-        if (request.getGithubUrl() != null) candidate.setGithubUrl(request.getGithubUrl());
-        if (request.getPortfolioUrl() != null) candidate.setPortfolioUrl(request.getPortfolioUrl());
-
-        calculateProfileCompletion(candidate);
-        candidate = candidateRepository.save(candidate);
-        return mapToResponse(candidate);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (request.getFullName() != null) fields.put("fullName", request.getFullName());
+        if (request.getPhone() != null) fields.put("phone", request.getPhone());
+        if (request.getHeadline() != null) fields.put("headline", request.getHeadline());
+        if (request.getLocation() != null) fields.put("location", request.getLocation());
+        if (request.getAbout() != null) fields.put("about", request.getAbout());
+        if (request.getLinkedinUrl() != null) fields.put("linkedinUrl", request.getLinkedinUrl());
+        if (request.getGithubUrl() != null) fields.put("githubUrl", request.getGithubUrl());
+        if (request.getPortfolioUrl() != null) fields.put("portfolioUrl", request.getPortfolioUrl());
+
+        return updated(candidateRepository.setFields(userId, fields));
     }
 
     // Education methods
     public CandidateResponse addEducation(String userId, EducationRequest request) {
-        Candidate candidate = candidateRepository.findByUserId(userId)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
-
         Education education = Education.builder()
                 .id(UUID.randomUUID().toString())
                 .institution(request.getInstitution())
@@ -89,27 +127,15 @@ public class CandidateService {
                 .description(request.getDescription())
                 .build();
 
-        candidate.getEducation().add(education);
-        calculateProfileCompletion(candidate);
-        candidate = candidateRepository.save(candidate);
-        return mapToResponse(candidate);
+        return updated(candidateRepository.pushEntries(userId, "education", List.of(education)));
     }
 
     public CandidateResponse deleteEducation(String userId, String educationId) {
-        Candidate candidate = candidateRepository.findByUserId(userId)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
-
-        candidate.getEducation().removeIf(e -> e.getId().equals(educationId));
-        calculateProfileCompletion(candidate);
-        candidate = candidateRepository.save(candidate);
-        return mapToResponse(candidate);
+        return updated(candidateRepository.pullEntry(userId, "education", educationId));
     }
 
     // Experience methods
     public CandidateResponse addExperience(String userId, ExperienceRequest request) {
-        Candidate candidate = candidateRepository.findByUserId(userId)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
-
         Experience experience = Experience.builder()
                 .id(UUID.randomUUID().toString())
                 .companyName(request.getCompanyName())
@@ -122,27 +148,15 @@ public class CandidateService {
                 .employmentType(request.getEmploymentType())
                 .build();
 
-        candidate.getExperience().add(experience);
-        calculateProfileCompletion(candidate);
-        candidate = candidateRepository.save(candidate);
-        return mapToResponse(candidate);
+        return updated(candidateRepository.pushEntries(userId, "experience", List.of(experience)));
     }
 
     public CandidateResponse deleteExperience(String userId, String experienceId) {
-        Candidate candidate = candidateRepository.findByUserId(userId)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
-
-        candidate.getExperience().removeIf(e -> e.getId().equals(experienceId));
-        calculateProfileCompletion(candidate);
-        candidate = candidateRepository.save(candidate);
-        return mapToResponse(candidate);
+        return updated(candidateRepository.pullEntry(userId, "experience", experienceId));
     }
 
     // Skills methods
     public CandidateResponse addSkills(String userId, SkillsRequest request) {
-        Candidate candidate = candidateRepository.findByUserId(userId)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
-
         List<Skill> newSkills = request.getSkills().stream()
                 .map(skillName -> Skill.builder()
                         .id(UUID.randomUUID().toString())
@@ -152,38 +166,31 @@ public class CandidateService {
                         .build())
                 .toList();
 
-        candidate.getSkills().addAll(newSkills);
-        calculateProfileCompletion(candidate);
-        candidate = candidateRepository.save(candidate);
-        return mapToResponse(candidate);
+        return updated(candidateRepository.pushEntries(userId, "skills", newSkills));
     }
 
     public CandidateResponse deleteSkill(String userId, String skillId) {
-        Candidate candidate = candidateRepository.findByUserId(userId)
-                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
+        return updated(candidateRepository.pullEntry(userId, "skills", skillId));
+    }
 
-        candidate.getSkills().removeIf(s -> s.getId().equals(skillId));
-        calculateProfileCompletion(candidate);
-        candidate = candidateRepository.save(candidate);
-        return mapToResponse(candidate);
+    // Profile edits are single findAndModify updates that also recompute the completion fields,
+    // see CandidateRepositoryImpl. Every edit goes through here so cached copies are dropped.
+    private CandidateResponse updated(Optional<Candidate> candidate) {
+        CandidateResponse response = mapToResponse(candidate
+                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found")));
+        profileCache.invalidate(response);
+        return response;
     }
 
-    private void calculateProfileCompletion(Candidate candidate) {
-        int score = 0;
-        int total = 9;
-
-        if (candidate.getFullName() != null && !candidate.getFullName().isEmpty()) score++;
-        if (candidate.getPhone() != null && !candidate.getPhone().isEmpty()) score++;
-        if (candidate.getHeadline() != null && !candidate.getHeadline().isEmpty()) score++;
-        if (candidate.getLocation() != null && !candidate.getLocation().isEmpty()) score++;
-        if (candidate.getAbout() != null && !candidate.getAbout().isEmpty()) score++;
-        if (!candidate.getEducation().isEmpty()) score++;
-        if (!candidate.getExperience().isEmpty()) score++;
-        if (!candidate.getSkills().isEmpty()) score++;
-        if (!candidate.getDocumentIds().isEmpty()) score++;
-
-        candidate.setProfileCompletionPercentage((score * 100) / total);
-        candidate.setProfileComplete(score == total);
+    private CandidateSearchResult mapToSearchResult(Candidate candidate) {
+        return CandidateSearchResult.builder()
+                .id(candidate.getId())
+                .fullName(candidate.getFullName())
+                .headline(candidate.getHeadline())
+                .location(candidate.getLocation())
+                .skills(candidate.getSkills())
+                .profileCompletionPercentage(candidate.getProfileCompletionPercentage())
+                .build();
     }
 
     private CandidateResponse mapToResponse(Candidate candidate) {
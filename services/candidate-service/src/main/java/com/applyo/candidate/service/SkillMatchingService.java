@@ -0,0 +1,240 @@
+package com.applyo.candidate.service;
+
+import com.applyo.candidate.dto.ApiResponse;
+import com.applyo.candidate.dto.CandidateResponse;
+import com.applyo.candidate.dto.JobRequirementsResponse;
+import com.applyo.candidate.dto.SkillMatchResponse;
+import com.applyo.candidate.exception.JobNotFoundException;
+import com.applyo.candidate.exception.SearchNotAllowedException;
+import com.applyo.candidate.matching.MatchIndex;
+import com.applyo.candidate.matching.SkillDictionary;
+import com.applyo.candidate.model.Candidate;
+import com.applyo.candidate.model.Skill;
+import com.applyo.candidate.security.InternalRequestSigner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// Ranks candidates for a job and jobs for a candidate by skill overlap. Candidate skills define the vocabulary;
+// job titles and free-text requirement lines are scanned for it. Both sides are precomputed into MatchIndex
+// snapshots that are rebuilt off the request path and swapped atomically.
+@Slf4j
+@Service
+public class SkillMatchingService {
+
+    // updatedAt is stamped by the server before the write commits, so an edit can land just behind lastSync;
+    // re-reading this window each refresh picks it up, and re-reading a profile is idempotent
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final MongoTemplate mongoTemplate;
+    private final RestClient companyService;
+    private final CandidateService candidateService;
+
+    private final Timer candidatesForJob;
+    private final Timer jobsForCandidate;
+
+    private volatile Snapshot snapshot = new Snapshot(new SkillDictionary(),
+            MatchIndex.build(List.of(), List.of(), 0), MatchIndex.build(List.of(), List.of(), 0), Map.of(), Map.of());
+    private volatile List<JobRequirementsResponse> jobs = List.of();
+
+    // Skill names per candidate id as of the last sync; only touched by the scheduled refresh
+    private Map<String, String[]> candidateSkills = new LinkedHashMap<>();
+    private Instant lastSync;
+    private Instant lastFullSync;
+    private final Duration fullSyncInterval;
+
+    public SkillMatchingService(MongoTemplate mongoTemplate,
+                                RestClient.Builder restClientBuilder,
+                                InternalRequestSigner internalRequestSigner,
+                                CandidateService candidateService,
+                                MeterRegistry meterRegistry,
+                                @Value("${company-service.url}") String companyServiceUrl,
+                                @Value("${candidate.matching.full-sync-interval:30m}") Duration fullSyncInterval) {
+        this.mongoTemplate = mongoTemplate;
+        this.companyService = restClientBuilder.baseUrl(companyServiceUrl).requestInterceptor(internalRequestSigner).build();
+        this.candidateService = candidateService;
+        this.fullSyncInterval = fullSyncInterval;
+
+        this.candidatesForJob = Timer.builder("candidate.matching.query")
+                .tag("direction", "candidates-for-job")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.jobsForCandidate = Timer.builder("candidate.matching.query")
+                .tag("direction", "jobs-for-candidate")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("candidate.matching.index.size", this, service -> service.snapshot.candidates.size())
+                .tag("side", "candidates")
+                .register(meterRegistry);
+        Gauge.builder("candidate.matching.index.size", this, service -> service.snapshot.jobs.size())
+                .tag("side", "jobs")
+                .register(meterRegistry);
+        Gauge.builder("candidate.matching.skills", this, service -> service.snapshot.dictionary.size())
+                .register(meterRegistry);
+    }
+
+    // Only the company that posted the job may rank candidates for it
+    public List<SkillMatchResponse> rankCandidatesForJob(String jobId, String companyId, int limit) {
+        Snapshot current = snapshot;
+        int[] jobSkills = current.jobs.skillsOf(jobId);
+        if (jobSkills == null) {
+            throw new JobNotFoundException("Job not found among active jobs");
+        }
+        if (companyId == null || !companyId.equals(current.jobCompanies.get(jobId))) {
+            throw new SearchNotAllowedException("Candidates can only be matched for your own company's jobs");
+        }
+        return candidatesForJob.record(() -> toResponses(current, current.candidates,
+                current.candidates.topK(jobSkills, limit, MatchIndex.Normalization.QUERY), jobSkills, false));
+    }
+
+    // Uses the candidate's current profile rather than the indexed copy, so fresh edits count immediately
+    public List<SkillMatchResponse> rankJobsForCandidate(String userId, int limit) {
+        CandidateResponse profile = candidateService.getProfile(userId);
+        Snapshot current = snapshot;
+        int[] skills = current.dictionary.encodeSkills(profile.getSkills().stream().map(Skill::getName).toList());
+        return jobsForCandidate.record(() -> toResponses(current, current.jobs,
+                current.jobs.topK(skills, limit, MatchIndex.Normalization.ROW), skills, true));
+    }
+
+    @Scheduled(fixedDelayString = "${candidate.matching.refresh-interval:60000}")
+    public void refresh() {
+        long start = System.nanoTime();
+        boolean full = syncCandidates();
+
+        SkillDictionary dictionary = new SkillDictionary();
+        List<String> candidateIds = new ArrayList<>(candidateSkills.size());
+        List<int[]> candidateRows = new ArrayList<>(candidateSkills.size());
+        candidateSkills.forEach((id, skills) -> {
+            candidateIds.add(id);
+            candidateRows.add(Arrays.stream(skills)
+                    .mapToInt(dictionary::intern)
+                    .filter(skill -> skill >= 0)
+                    .sorted()
+                    .distinct()
+                    .toArray());
+        });
+
+        // Keep matching against the last known jobs if company-service is unavailable
+        try {
+            ApiResponse<List<JobRequirementsResponse>> response = companyService.get()
+                    .uri("/internal/jobs/active/requirements")
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<>() {});
+            if (response != null && response.getData() != null) {
+                jobs = response.getData();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh active jobs for skill matching: {}", e.getMessage());
+        }
+
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        List<int[]> jobRows = new ArrayList<>(jobs.size());
+        Map<String, String> jobTitles = new HashMap<>(jobs.size() * 2);
+        Map<String, String> jobCompanies = new HashMap<>(jobs.size() * 2);
+        for (JobRequirementsResponse job : jobs) {
+            List<String> text = new ArrayList<>();
+            if (job.getTitle() != null) {
+                text.add(job.getTitle());
+            }
+            if (job.getRequirements() != null) {
+                text.addAll(job.getRequirements());
+            }
+            jobIds.add(job.getId());
+            jobRows.add(dictionary.encodeText(text));
+            jobTitles.put(job.getId(), job.getTitle());
+            if (job.getCompanyId() != null) {
+                jobCompanies.put(job.getId(), job.getCompanyId());
+            }
+        }
+
+        snapshot = new Snapshot(dictionary,
+                MatchIndex.build(candidateIds, candidateRows, dictionary.size()),
+                MatchIndex.build(jobIds, jobRows, dictionary.size()),
+                jobTitles,
+                jobCompanies);
+        log.debug("Rebuilt skill matching index ({} candidate sync): {} candidates, {} jobs, {} skills in {} ms",
+                full ? "full" : "incremental", candidateIds.size(), jobIds.size(), dictionary.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Only profiles edited since the last sync are re-read from Mongo. Edits stamp updatedAt, but creating or
+    // removing a profile does not, so a change in the collection count (or the periodic full sync) re-reads
+    // everything. Returns whether this was a full sync.
+    private boolean syncCandidates() {
+        String collection = mongoTemplate.getCollectionName(Candidate.class);
+        Instant now = Instant.now();
+        boolean full = lastSync == null
+                || now.isAfter(lastFullSync.plus(fullSyncInterval))
+                || mongoTemplate.estimatedCount(collection) != candidateSkills.size();
+
+        Query query = full
+                ? new Query()
+                : new Query(Criteria.where("updatedAt").gte(lastSync.minus(SYNC_OVERLAP)));
+        query.fields().include("skills.name");
+        Map<String, String[]> synced = full ? new LinkedHashMap<>() : candidateSkills;
+        try (Stream<Document> candidates = mongoTemplate.stream(query, Document.class, collection)) {
+            candidates.forEach(candidate -> synced.put(candidate.get("_id").toString(),
+                    candidate.getList("skills", Document.class, List.of()).stream()
+                            .map(skill -> skill.getString("name"))
+                            .filter(Objects::nonNull)
+                            .toArray(String[]::new)));
+        }
+
+        candidateSkills = synced;
+        lastSync = now;
+        if (full) {
+            lastFullSync = now;
+        }
+        return full;
+    }
+
+    private static List<SkillMatchResponse> toResponses(Snapshot snapshot, MatchIndex index,
+                                                        List<MatchIndex.Match> matches, int[] querySkills,
+                                                        boolean jobs) {
+        return matches.stream()
+                .map(match -> {
+                    String id = index.idAt(match.getRow());
+                    return SkillMatchResponse.builder()
+                            .id(id)
+                            .title(jobs ? snapshot.jobTitles.get(id) : null)
+                            .score(Math.round(match.getScore() * 1000) / 1000.0)
+                            .matchedSkills(Arrays.stream(index.skillsAt(match.getRow()))
+                                    .filter(skill -> Arrays.binarySearch(querySkills, skill) >= 0)
+                                    .mapToObj(snapshot.dictionary::name)
+                                    .toList())
+                            .build();
+                })
+                .toList();
+    }
+
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final SkillDictionary dictionary;
+        private final MatchIndex candidates;
+        private final MatchIndex jobs;
+        private final Map<String, String> jobTitles;
+        private final Map<String, String> jobCompanies;
+    }
+}
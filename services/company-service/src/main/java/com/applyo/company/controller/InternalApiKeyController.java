@@ -0,0 +1,35 @@
+package com.applyo.company.controller;
+
+import com.applyo.company.dto.ApiKeyIndexResponse;
+import com.applyo.company.dto.ApiKeyPolicyResponse;
+import com.applyo.company.dto.ApiResponse;
+import com.applyo.company.service.CompanyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+// Service-to-service endpoints for the API gateway; not exposed through gateway routes
+@RestController
+@RequestMapping("/internal/api-keys")
+@RequiredArgsConstructor
+public class InternalApiKeyController {
+
+    private final CompanyService companyService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<ApiKeyPolicyResponse>> getApiKeyPolicy(
+            @RequestParam String hash) {
+        ApiKeyPolicyResponse response = companyService.getApiKeyPolicy(hash);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/index")
+    public ResponseEntity<ApiResponse<ApiKeyIndexResponse>> getApiKeyIndex(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since) {
+        ApiKeyIndexResponse response = companyService.getApiKeyIndex(since);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
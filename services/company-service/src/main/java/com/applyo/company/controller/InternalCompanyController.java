@@ -0,0 +1,38 @@
+package com.applyo.company.controller;
+
+import com.applyo.company.dto.ApiResponse;
+import com.applyo.company.dto.BulkCompanyRequest;
+import com.applyo.company.dto.BulkProvisionResponse;
+import com.applyo.company.dto.CompanyResponse;
+import com.applyo.company.service.CompanyProvisioningService;
+import com.applyo.company.service.CompanyService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Service-to-service endpoints for the API gateway and onboarding imports; not exposed through gateway routes
+@RestController
+@RequestMapping("/internal/companies")
+@RequiredArgsConstructor
+public class InternalCompanyController {
+
+    private final CompanyService companyService;
+    private final CompanyProvisioningService companyProvisioningService;
+
+    // Resolved once per access token to put the company id in the gateway's identity envelope
+    @GetMapping("/by-user/{userId}")
+    public ResponseEntity<ApiResponse<CompanyResponse>> getCompanyByUser(
+            @PathVariable String userId) {
+        CompanyResponse response = companyService.getCompany(userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // Always 200 with a result per row; callers retry only the FAILED rows
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkProvisionResponse>> provisionCompanies(
+            @Valid @RequestBody BulkCompanyRequest request) {
+        BulkProvisionResponse response = companyProvisioningService.provision(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,25 @@
+package com.applyo.company.controller;
+
+import com.applyo.company.dto.ApiResponse;
+import com.applyo.company.dto.JobRequirementsResponse;
+import com.applyo.company.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Service-to-service endpoints; not exposed through gateway routes
+@RestController
+@RequestMapping("/internal/jobs")
+@RequiredArgsConstructor
+public class InternalJobController {
+
+    private final JobService jobService;
+
+    // Feeds candidate-service's skill matching index
+    @GetMapping("/active/requirements")
+    public ResponseEntity<ApiResponse<List<JobRequirementsResponse>>> getActiveJobRequirements() {
+        return ResponseEntity.ok(ApiResponse.success(jobService.getActiveJobRequirements()));
+    }
+}
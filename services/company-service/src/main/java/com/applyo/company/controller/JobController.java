@@ -1,6 +1,7 @@
 package com.applyo.company.controller;
 
 import com.applyo.company.dto.*;
+import com.applyo.company.security.GatewayIdentity;
 import com.applyo.company.service.CompanyService;
 import com.applyo.company.service.JobService;
 import jakarta.validation.Valid;
@@ -21,9 +22,9 @@ public class JobController {
     @PostMapping
     public ResponseEntity<ApiResponse<JobResponse>> createJob(
             @RequestHeader("X-User-Id") String userId,
+            @RequestAttribute(name = GatewayIdentity.REQUEST_ATTRIBUTE, required = false) GatewayIdentity identity,
             @Valid @RequestBody CreateJobRequest request) {
-        CompanyResponse company = companyService.getCompany(userId);
-        JobResponse response = jobService.createJob(company.getId(), request);
+        JobResponse response = jobService.createJob(resolveCompanyId(identity, userId), request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response));
     }
@@ -31,10 +32,10 @@ public class JobController {
     @GetMapping
     public ResponseEntity<ApiResponse<Page<JobResponse>>> getCompanyJobs(
             @RequestHeader("X-User-Id") String userId,
+            @RequestAttribute(name = GatewayIdentity.REQUEST_ATTRIBUTE, required = false) GatewayIdentity identity,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        CompanyResponse company = companyService.getCompany(userId);
-        Page<JobResponse> jobs = jobService.getCompanyJobs(company.getId(), page, size);
+        Page<JobResponse> jobs = jobService.getCompanyJobs(resolveCompanyId(identity, userId), page, size);
         return ResponseEntity.ok(ApiResponse.success(jobs));
     }
 
@@ -80,4 +81,12 @@ public class JobController {
         jobService.deleteJob(jobId);
         return ResponseEntity.ok(ApiResponse.success(null));
     }
+
+    // The gateway's identity envelope already carries the company id; look it up only for callers without one
+    private String resolveCompanyId(GatewayIdentity identity, String userId) {
+        if (identity != null && identity.getCompanyId() != null && userId.equals(identity.getUserId())) {
+            return identity.getCompanyId();
+        }
+        return companyService.getCompany(userId).getId();
+    }
 }
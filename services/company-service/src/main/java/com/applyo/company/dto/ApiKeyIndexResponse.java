@@ -0,0 +1,24 @@
+package com.applyo.company.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyIndexResponse {
+
+    // Pass back as "since" on the next call; the service re-reads a short window before it, so changes may repeat
+    private Instant asOf;
+
+    // Every company covered by this snapshot; their previous keys are replaced by "keys"
+    private List<String> companyIds;
+
+    private List<ApiKeyPolicyResponse> keys;
+}
@@ -0,0 +1,25 @@
+package com.applyo.company.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyPolicyResponse {
+
+    private String keyId;
+    private String keyHash;
+    private String companyId;
+    private String subscriptionTier;
+    private List<String> scopes;
+    private Integer rateLimit;
+    private Boolean active;
+    private Instant expiresAt;
+}
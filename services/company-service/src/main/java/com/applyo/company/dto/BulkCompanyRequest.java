@@ -0,0 +1,22 @@
+package com.applyo.company.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCompanyRequest {
+
+    // Rows are validated one by one so a bad row is reported instead of failing the batch
+    @NotEmpty(message = "At least one company is required")
+    @Size(max = 1000, message = "At most 1000 companies per batch")
+    private List<CreateCompanyRequest> companies;
+}
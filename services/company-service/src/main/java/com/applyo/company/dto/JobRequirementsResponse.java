@@ -0,0 +1,20 @@
+package com.applyo.company.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRequirementsResponse {
+
+    private String id;
+    private String companyId;
+    private String title;
+    private List<String> requirements;
+}
@@ -0,0 +1,7 @@
+package com.applyo.company.exception;
+
+public class ApiKeyNotFoundException extends RuntimeException {
+    public ApiKeyNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.Indexed;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -16,6 +17,7 @@ import java.util.List;
 public class ApiKey {
 
     private String id;
+    @Indexed(sparse = true)
     private String keyHash;
     private String name;
     private String prefix; // First 8 chars for display
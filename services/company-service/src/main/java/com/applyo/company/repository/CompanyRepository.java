@@ -2,16 +2,28 @@ package com.applyo.company.repository;
 
 import com.applyo.company.model.Company;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CompanyRepository extends MongoRepository<Company, String> {
+public interface CompanyRepository extends MongoRepository<Company, String>, CompanyRepositoryCustom {
 
     Optional<Company> findByUserId(String userId);
 
     Optional<Company> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    Optional<Company> findByApiKeysKeyHash(String keyHash);
+
+    @Query(value = "{ 'apiKeys.0': { $exists: true } }", fields = "{ 'subscriptionTier': 1, 'apiKeys': 1 }")
+    List<Company> findApiKeyHolders();
+
+    // Includes companies whose keys were all deleted so callers can drop them; backed by the updatedAt index
+    @Query(value = "{ 'updatedAt': { $gt: ?0 } }", fields = "{ 'subscriptionTier': 1, 'apiKeys': 1 }")
+    List<Company> findApiKeysUpdatedAfter(Instant since);
 }
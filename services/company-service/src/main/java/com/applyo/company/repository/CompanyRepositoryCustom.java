@@ -0,0 +1,11 @@
+package com.applyo.company.repository;
+
+import com.applyo.company.model.Company;
+
+import java.util.List;
+import java.util.Map;
+
+public interface CompanyRepositoryCustom {
+
+    Map<Integer, Integer> insertUnordered(List<Company> companies);
+}
@@ -0,0 +1,31 @@
+package com.applyo.company.repository;
+
+import com.applyo.company.model.Company;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class CompanyRepositoryImpl implements CompanyRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    // One unordered bulkWrite; rows rejected by the server (e.g. 11000 on the unique email or userId index)
+    // don't stop the rest. Returns the Mongo error code per failed index.
+    @Override
+    public Map<Integer, Integer> insertUnordered(List<Company> companies) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Company.class).insert(companies).execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getCode));
+        }
+    }
+}
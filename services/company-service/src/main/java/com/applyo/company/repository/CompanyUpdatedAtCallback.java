@@ -0,0 +1,19 @@
+package com.applyo.company.repository;
+
+import com.applyo.company.model.Company;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+// Stamps Company.updatedAt on every write; the gateway's API key index polls on it. Scoped to Company rather
+// than enabling Mongo auditing, which would also start stamping Job's audit fields.
+@Component
+public class CompanyUpdatedAtCallback implements BeforeConvertCallback<Company> {
+
+    @Override
+    public Company onBeforeConvert(Company company, String collection) {
+        company.setUpdatedAt(Instant.now());
+        return company;
+    }
+}
@@ -4,6 +4,7 @@ import com.applyo.company.model.Job;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,5 +18,8 @@ public interface JobRepository extends MongoRepository<Job, String> {
 
     Page<Job> findByStatus(String status, Pageable pageable);
 
+    @Query(value = "{ 'status': ?0 }", fields = "{ 'companyId': 1, 'title': 1, 'requirements': 1 }")
+    List<Job> findRequirementsByStatus(String status);
+
     long countByCompanyId(String companyId);
 }
@@ -0,0 +1,104 @@
+package com.applyo.company.service;
+
+import com.applyo.company.dto.BulkCompanyRequest;
+import com.applyo.company.dto.BulkProvisionResponse;
+import com.applyo.company.dto.CreateCompanyRequest;
+import com.applyo.company.model.Company;
+import com.applyo.company.repository.CompanyRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Bulk profile creation for onboarding imports. Rows go to Mongo in one unordered bulkWrite and
+// duplicates are detected by the unique indexes rather than an existsByEmail round trip per row.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompanyProvisioningService {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final CompanyRepository companyRepository;
+    private final Validator validator;
+
+    public BulkProvisionResponse provision(BulkCompanyRequest request) {
+        List<CreateCompanyRequest> rows = request.getCompanies();
+        BulkProvisionResponse.Row[] results = new BulkProvisionResponse.Row[rows.size()];
+        List<Company> companies = new ArrayList<>(rows.size());
+        List<Integer> rowIndexes = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            CreateCompanyRequest row = rows.get(i);
+            Set<ConstraintViolation<CreateCompanyRequest>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                results[i] = result(i, BulkProvisionResponse.Status.INVALID, null, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+
+            companies.add(Company.builder()
+                    .id(new ObjectId().toHexString())
+                    .userId(row.getUserId())
+                    .name(row.getName())
+                    .email(row.getEmail())
+                    .website(row.getWebsite())
+                    .industry(row.getIndustry())
+                    .size(row.getSize())
+                    .build());
+            rowIndexes.add(i);
+        }
+
+        Map<Integer, Integer> errors = companies.isEmpty() ? Map.of() : companyRepository.insertUnordered(companies);
+        for (int j = 0; j < companies.size(); j++) {
+            int index = rowIndexes.get(j);
+            Integer code = errors.get(j);
+            if (code == null) {
+                results[index] = result(index, BulkProvisionResponse.Status.CREATED, companies.get(j).getId(), null);
+            } else if (code == DUPLICATE_KEY) {
+                results[index] = result(index, BulkProvisionResponse.Status.DUPLICATE, null, "Email or user already registered");
+            } else {
+                results[index] = result(index, BulkProvisionResponse.Status.FAILED, null, "Write failed with code " + code);
+            }
+        }
+
+        BulkProvisionResponse response = summarize(List.of(results));
+        log.info("Provisioned {} companies ({} duplicates, {} failed) from a batch of {}",
+                response.getCreated(), response.getDuplicates(), response.getFailed(), rows.size());
+        return response;
+    }
+
+    private static BulkProvisionResponse summarize(List<BulkProvisionResponse.Row> rows) {
+        int created = 0;
+        int duplicates = 0;
+        for (BulkProvisionResponse.Row row : rows) {
+            if (row.getStatus() == BulkProvisionResponse.Status.CREATED) created++;
+            if (row.getStatus() == BulkProvisionResponse.Status.DUPLICATE) duplicates++;
+        }
+        return BulkProvisionResponse.builder()
+                .created(created)
+                .duplicates(duplicates)
+                .failed(rows.size() - created - duplicates)
+                .rows(rows)
+                .build();
+    }
+
+    private static BulkProvisionResponse.Row result(int index, BulkProvisionResponse.Status status, String id, String message) {
+        return BulkProvisionResponse.Row.builder()
+                .index(index)
+                .status(status)
+                .id(id)
+                .message(message)
+                .build();
+    }
+}
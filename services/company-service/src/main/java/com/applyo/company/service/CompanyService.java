@@ -1,6 +1,7 @@
 package com.applyo.company.service;
 
 import com.applyo.company.dto.*;
+import com.applyo.company.exception.ApiKeyNotFoundException;
 import com.applyo.company.exception.CompanyNotFoundException;
 import com.applyo.company.exception.DuplicateEmailException;
 import com.applyo.company.model.ApiKey;
@@ -14,6 +15,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
@@ -25,6 +27,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CompanyService {
 
+    // updatedAt is stamped before the write commits, so a save can land behind an asOf already handed out;
+    // re-reading this window each poll picks it up, and replaying a company's key set is idempotent
+    private static final Duration INDEX_POLL_OVERLAP = Duration.ofSeconds(30);
+
     private final CompanyRepository companyRepository;
     private final SecureRandom secureRandom = new SecureRandom();
 
@@ -131,6 +137,34 @@ public class CompanyService {
         companyRepository.save(company);
     }
 
+    public ApiKeyPolicyResponse getApiKeyPolicy(String keyHash) {
+        Company company = companyRepository.findByApiKeysKeyHash(keyHash)
+                .orElseThrow(() -> new ApiKeyNotFoundException("API key not found"));
+
+        ApiKey apiKey = company.getApiKeys().stream()
+                .filter(k -> keyHash.equals(k.getKeyHash()))
+                .findFirst()
+                .orElseThrow(() -> new ApiKeyNotFoundException("API key not found"));
+
+        return mapApiKeyToPolicy(company, apiKey);
+    }
+
+    public ApiKeyIndexResponse getApiKeyIndex(Instant since) {
+        Instant asOf = Instant.now();
+        List<Company> companies = since == null
+                ? companyRepository.findApiKeyHolders()
+                : companyRepository.findApiKeysUpdatedAfter(since.minus(INDEX_POLL_OVERLAP));
+
+        return ApiKeyIndexResponse.builder()
+                .asOf(asOf)
+                .companyIds(companies.stream().map(Company::getId).toList())
+                .keys(companies.stream()
+                        .flatMap(company -> company.getApiKeys().stream()
+                                .map(apiKey -> mapApiKeyToPolicy(company, apiKey)))
+                        .toList())
+                .build();
+    }
+
     // Webhook Management
     public CompanyResponse addWebhook(String userId, String webhookUrl) {
         Company company = companyRepository.findByUserId(userId)
@@ -190,6 +224,19 @@ public class CompanyService {
                 .build();
     }
 
+    private ApiKeyPolicyResponse mapApiKeyToPolicy(Company company, ApiKey apiKey) {
+        return ApiKeyPolicyResponse.builder()
+                .keyId(apiKey.getId())
+                .keyHash(apiKey.getKeyHash())
+                .companyId(company.getId())
+                .subscriptionTier(company.getSubscriptionTier())
+                .scopes(apiKey.getScopes())
+                .rateLimit(apiKey.getRateLimit())
+                .active(apiKey.getActive())
+                .expiresAt(apiKey.getExpiresAt())
+                .build();
+    }
+
     private ApiKeyResponse mapApiKeyToResponse(ApiKey apiKey) {
         return ApiKeyResponse.builder()
                 .id(apiKey.getId())
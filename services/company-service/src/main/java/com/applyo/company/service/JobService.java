@@ -1,6 +1,7 @@
 package com.applyo.company.service;
 
 import com.applyo.company.dto.CreateJobRequest;
+import com.applyo.company.dto.JobRequirementsResponse;
 import com.applyo.company.dto.JobResponse;
 import com.applyo.company.exception.JobNotFoundException;
 import com.applyo.company.model.CustomQuestion;
@@ -15,6 +16,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -74,6 +76,17 @@ public class JobService {
                 .map(this::mapToResponse);
     }
 
+    public List<JobRequirementsResponse> getActiveJobRequirements() {
+        return jobRepository.findRequirementsByStatus("active").stream()
+                .map(job -> JobRequirementsResponse.builder()
+                        .id(job.getId())
+                        .companyId(job.getCompanyId())
+                        .title(job.getTitle())
+                        .requirements(job.getRequirements())
+                        .build())
+                .toList();
+    }
+
     public JobResponse updateJob(String jobId, CreateJobRequest request) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new JobNotFoundException("Job not found"));